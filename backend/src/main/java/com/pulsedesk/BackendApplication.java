@@ -1,11 +1,27 @@
 package com.pulsedesk;
 
 import com.pulsedesk.config.JwtProperties;
+import com.pulsedesk.config.NotificationProperties;
+import com.pulsedesk.config.TicketAuditProperties;
+import com.pulsedesk.config.TicketBulkProperties;
+import com.pulsedesk.config.TicketExportProperties;
+import com.pulsedesk.config.TicketImportProperties;
+import com.pulsedesk.config.TicketListingProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({
+        JwtProperties.class,
+        TicketListingProperties.class,
+        TicketExportProperties.class,
+        TicketBulkProperties.class,
+        TicketImportProperties.class,
+        TicketAuditProperties.class,
+        NotificationProperties.class
+})
+@EnableScheduling
 @SpringBootApplication
 public class BackendApplication {
 
@@ -0,0 +1,11 @@
+package com.pulsedesk.common.api;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> items,
+        int size,
+        String nextCursor,
+        String prevCursor
+) {
+}
@@ -0,0 +1,132 @@
+package com.pulsedesk.common.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV one record at a time from a buffered source, so input of any
+ * size is parsed without being held in memory. Quoted fields may contain delimiters,
+ * doubled quotes and line breaks; both LF and CRLF row endings are accepted.
+ * Not thread-safe.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private final Reader source;
+    private final char[] buffer;
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvReader(Reader source, int bufferSize) {
+        this.source = source;
+        this.buffer = new char[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+    }
+
+    /**
+     * Returns the next record, or {@code null} at end of input. Blank lines are skipped.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting at line " + recordLine);
+                }
+
+                if (c == '"') {
+                    c = read();
+
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+
+            c = read();
+        }
+    }
+
+    /**
+     * Line number on which the record last returned by {@link #readRecord()} started.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+
+        char c = buffer[position++];
+
+        if (c == '\n') {
+            line++;
+        }
+
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = source.read(buffer, 0, buffer.length);
+
+        if (read <= 0) {
+            return false;
+        }
+
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
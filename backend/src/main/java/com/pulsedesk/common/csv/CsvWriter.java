@@ -0,0 +1,254 @@
+package com.pulsedesk.common.csv;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes RFC 4180 CSV into a reusable char buffer. Values are quoted only when they
+ * contain a delimiter, quote or line break, and numbers and timestamps are encoded
+ * digit by digit instead of through intermediate strings. Timestamps match
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}. Not thread-safe.
+ */
+public class CsvWriter implements Flushable, Closeable {
+
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private final Writer target;
+    private final char[] buffer;
+    private int position;
+    private boolean rowStarted;
+
+    public CsvWriter(Writer target, int bufferSize) {
+        this.target = target;
+        this.buffer = new char[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+    }
+
+    public CsvWriter raw(String text) throws IOException {
+        write(text, 0, text.length());
+        return this;
+    }
+
+    public CsvWriter field(CharSequence value) throws IOException {
+        separator();
+
+        if (value == null) {
+            return this;
+        }
+
+        int length = value.length();
+
+        if (!needsQuoting(value, length)) {
+            write(value, 0, length);
+            return this;
+        }
+
+        write('"');
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c == '"') {
+                write('"');
+            }
+            write(c);
+        }
+        write('"');
+        return this;
+    }
+
+    public CsvWriter field(Enum<?> value) throws IOException {
+        return field(value != null ? value.name() : null);
+    }
+
+    public CsvWriter field(Long value) throws IOException {
+        separator();
+
+        if (value != null) {
+            writeLong(value);
+        }
+        return this;
+    }
+
+    public CsvWriter field(long value) throws IOException {
+        separator();
+        writeLong(value);
+        return this;
+    }
+
+    public CsvWriter field(OffsetDateTime value) throws IOException {
+        separator();
+
+        if (value == null) {
+            return this;
+        }
+
+        int year = value.getYear();
+
+        if (year < 0 || year > 9999) {
+            return raw(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+        }
+
+        writeDigits(year, 4);
+        write('-');
+        writeDigits(value.getMonthValue(), 2);
+        write('-');
+        writeDigits(value.getDayOfMonth(), 2);
+        write('T');
+        writeDigits(value.getHour(), 2);
+        write(':');
+        writeDigits(value.getMinute(), 2);
+        write(':');
+        writeDigits(value.getSecond(), 2);
+        writeFraction(value.getNano());
+        writeOffset(value.getOffset());
+        return this;
+    }
+
+    public void endRow() throws IOException {
+        write('\n');
+        rowStarted = false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        target.close();
+    }
+
+    private void separator() throws IOException {
+        if (rowStarted) {
+            write(',');
+        }
+        rowStarted = true;
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            raw(Long.toString(value));
+            return;
+        }
+
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+
+        ensureCapacity(digits);
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    private void writeDigits(int value, int width) throws IOException {
+        ensureCapacity(width);
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        position += width;
+    }
+
+    private void writeFraction(int nanos) throws IOException {
+        if (nanos == 0) {
+            return;
+        }
+
+        int width = 9;
+        while (nanos % 10 == 0) {
+            nanos /= 10;
+            width--;
+        }
+
+        write('.');
+        writeDigits(nanos, width);
+    }
+
+    private void writeOffset(ZoneOffset offset) throws IOException {
+        int totalSeconds = offset.getTotalSeconds();
+
+        if (totalSeconds == 0) {
+            write('Z');
+            return;
+        }
+
+        int absolute = Math.abs(totalSeconds);
+        write(totalSeconds < 0 ? '-' : '+');
+        writeDigits(absolute / 3600, 2);
+        write(':');
+        writeDigits(absolute / 60 % 60, 2);
+
+        if (absolute % 60 != 0) {
+            write(':');
+            writeDigits(absolute % 60, 2);
+        }
+    }
+
+    private void write(char c) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = c;
+    }
+
+    private void write(CharSequence text, int start, int end) throws IOException {
+        int index = start;
+
+        while (index < end) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+
+            int chunk = Math.min(end - index, buffer.length - position);
+
+            if (text instanceof String string) {
+                string.getChars(index, index + chunk, buffer, position);
+            } else {
+                for (int i = 0; i < chunk; i++) {
+                    buffer[position + i] = text.charAt(index + i);
+                }
+            }
+
+            position += chunk;
+            index += chunk;
+        }
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.length - position < length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            target.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static boolean needsQuoting(CharSequence value, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.pulsedesk.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record ChangeWatermark(
+        OffsetDateTime changedAt,
+        Long id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    public ChangeWatermark {
+        if (changedAt == null || id == null) {
+            throw new IllegalArgumentException("Invalid watermark");
+        }
+    }
+
+    public String encode() {
+        String raw = changedAt.toInstant().toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeWatermark decode(String watermark) {
+        if (watermark == null || watermark.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(watermark.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid watermark");
+            }
+
+            return new ChangeWatermark(
+                    OffsetDateTime.ofInstant(Instant.parse(parts[0]), ZoneOffset.UTC),
+                    Long.valueOf(parts[1])
+            );
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid watermark", ex);
+        }
+    }
+}
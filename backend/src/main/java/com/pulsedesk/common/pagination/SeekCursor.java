@@ -0,0 +1,70 @@
+package com.pulsedesk.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record SeekCursor(
+        Direction direction,
+        OffsetDateTime timestamp,
+        Long id
+) {
+
+    public enum Direction {
+        AFTER,
+        BEFORE
+    }
+
+    private static final char SEPARATOR = '|';
+
+    public SeekCursor {
+        if (direction == null || timestamp == null || id == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static SeekCursor after(OffsetDateTime timestamp, Long id) {
+        return new SeekCursor(Direction.AFTER, timestamp, id);
+    }
+
+    public static SeekCursor before(OffsetDateTime timestamp, Long id) {
+        return new SeekCursor(Direction.BEFORE, timestamp, id);
+    }
+
+    public boolean isBackward() {
+        return direction == Direction.BEFORE;
+    }
+
+    public String encode() {
+        String raw = direction.name() + SEPARATOR + timestamp.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SeekCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            return new SeekCursor(
+                    Direction.valueOf(parts[0]),
+                    OffsetDateTime.ofInstant(Instant.parse(parts[1]), ZoneOffset.UTC),
+                    Long.valueOf(parts[2])
+            );
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
@@ -33,7 +33,9 @@ public class CorsConfig {
         ));
 
         cfg.setExposedHeaders(List.of(
-                "Authorization"
+                "Authorization",
+                "X-Next-Watermark",
+                "X-Has-More"
         ));
 
         cfg.setAllowCredentials(false);
@@ -0,0 +1,13 @@
+package com.pulsedesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.notifications")
+public record NotificationProperties(
+        int workerThreads,
+        int queueCapacity,
+        int maxAttempts,
+        Duration retryBackoff
+) {}
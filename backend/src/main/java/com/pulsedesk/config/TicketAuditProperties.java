@@ -0,0 +1,17 @@
+package com.pulsedesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.tickets.audit")
+public record TicketAuditProperties(
+        int queueCapacity,
+        int flushBatchSize,
+        Duration flushInterval,
+        Duration enqueueTimeout,
+        int partitionsAhead,
+        int retentionMonths,
+        Path archiveDirectory
+) {}
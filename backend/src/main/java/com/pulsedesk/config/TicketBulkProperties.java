@@ -0,0 +1,14 @@
+package com.pulsedesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.tickets.bulk")
+public record TicketBulkProperties(
+        int chunkSize,
+        int maxConcurrentChunks,
+        int filterBatchSize,
+        int maxActiveJobs,
+        Duration jobRetention
+) {}
@@ -0,0 +1,15 @@
+package com.pulsedesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.tickets.export")
+public record TicketExportProperties(
+        Path spoolDirectory,
+        int workerThreads,
+        int maxQueuedJobs,
+        Duration retention,
+        Duration deltaVisibilityLag
+) {}
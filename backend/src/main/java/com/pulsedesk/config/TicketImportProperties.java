@@ -0,0 +1,9 @@
+package com.pulsedesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.tickets.import")
+public record TicketImportProperties(
+        int batchSize,
+        int maxReportedErrors
+) {}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.pulsedesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.tickets.listing")
+public record TicketListingProperties(
+        long exactCountThreshold,
+        long cacheMaximumSize,
+        Duration cacheTtl
+) {}
@@ -1,12 +1,22 @@
 package com.pulsedesk.dashboard.api.controller;
 
 import com.pulsedesk.dashboard.api.dto.DashboardSummaryResponse;
+import com.pulsedesk.dashboard.api.dto.TimeInStatusResponse;
 import com.pulsedesk.dashboard.service.DashboardService;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.TicketPriority;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.OffsetDateTime;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO;
+
 @RestController
 @RequestMapping("/dashboard")
 @RequiredArgsConstructor
@@ -18,4 +28,17 @@ public class DashboardController {
     public DashboardSummaryResponse getDashboardSummary() {
         return dashboardService.getSummary();
     }
+
+    @GetMapping("/time-in-status")
+    public TimeInStatusResponse getTimeInStatus(
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime to,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return dashboardService.getTimeInStatus(currentUser, teamId, priority, from, to);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.pulsedesk.dashboard.api.dto;
+
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketStatusDwellRow;
+
+public record StatusDwellBreakdownResponse(
+        TicketStatus status,
+        Long teamId,
+        TicketPriority priority,
+        long ticketCount,
+        long p50Seconds,
+        long p90Seconds,
+        long p99Seconds
+) {
+    public static StatusDwellBreakdownResponse from(TicketStatusDwellRow row) {
+        return new StatusDwellBreakdownResponse(
+                row.status(),
+                row.teamId(),
+                row.priority(),
+                row.ticketCount(),
+                Math.round(row.p50Seconds()),
+                Math.round(row.p90Seconds()),
+                Math.round(row.p99Seconds())
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.pulsedesk.dashboard.api.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record TimeInStatusResponse(
+        OffsetDateTime from,
+        OffsetDateTime to,
+        List<StatusDwellBreakdownResponse> breakdowns
+) {
+}
@@ -2,14 +2,22 @@ package com.pulsedesk.dashboard.service;
 
 import com.pulsedesk.dashboard.api.dto.DailyTicketCountResponse;
 import com.pulsedesk.dashboard.api.dto.DashboardSummaryResponse;
+import com.pulsedesk.dashboard.api.dto.StatusDwellBreakdownResponse;
+import com.pulsedesk.dashboard.api.dto.TimeInStatusResponse;
+import com.pulsedesk.security.AuthPrincipal;
 import com.pulsedesk.ticket.domain.TicketPriority;
 import com.pulsedesk.ticket.domain.TicketStatus;
 import com.pulsedesk.ticket.repository.TicketRepository;
+import com.pulsedesk.ticket.repository.TicketStatusDwellRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,7 +26,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DashboardService {
 
+    private static final Duration DEFAULT_DWELL_RANGE = Duration.ofDays(30);
+    private static final Duration MAX_DWELL_RANGE = Duration.ofDays(366);
+    private static final EnumSet<TicketStatus> DWELL_STATUSES = EnumSet.of(
+            TicketStatus.OPEN,
+            TicketStatus.IN_PROGRESS,
+            TicketStatus.WAITING_CUSTOMER
+    );
+
     private final TicketRepository ticketRepository;
+    private final TicketStatusDwellRepository statusDwellRepository;
 
     public DashboardSummaryResponse getSummary() {
         Map<String, Long> statusCounts = buildStatusCounts();
@@ -34,6 +51,58 @@ public class DashboardService {
         );
     }
 
+    /**
+     * Time-in-status percentiles per status, team and priority, read from the dwell
+     * rollup. Agents only see their own team; requesters have no access.
+     */
+    public TimeInStatusResponse getTimeInStatus(
+            AuthPrincipal currentUser,
+            Long teamId,
+            TicketPriority priority,
+            OffsetDateTime from,
+            OffsetDateTime to
+    ) {
+        Long scopedTeamId = resolveDwellTeam(currentUser, teamId);
+        OffsetDateTime rangeTo = to != null ? to : OffsetDateTime.now();
+        OffsetDateTime rangeFrom = from != null ? from : rangeTo.minus(DEFAULT_DWELL_RANGE);
+
+        if (!rangeFrom.isBefore(rangeTo)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(rangeFrom, rangeTo).compareTo(MAX_DWELL_RANGE) > 0) {
+            throw new IllegalArgumentException("Date range must not exceed 366 days");
+        }
+
+        List<StatusDwellBreakdownResponse> breakdowns = statusDwellRepository.findDwellPercentiles(
+                        DWELL_STATUSES,
+                        scopedTeamId,
+                        priority,
+                        rangeFrom,
+                        rangeTo
+                )
+                .stream()
+                .map(StatusDwellBreakdownResponse::from)
+                .toList();
+
+        return new TimeInStatusResponse(rangeFrom, rangeTo, breakdowns);
+    }
+
+    private static Long resolveDwellTeam(AuthPrincipal currentUser, Long teamId) {
+        if (currentUser == null || currentUser.userId() == null) {
+            throw new AccessDeniedException("Unauthenticated");
+        }
+        if (currentUser.isAdmin()) {
+            return teamId;
+        }
+        if (!currentUser.isAgent() || currentUser.teamId() == null) {
+            throw new AccessDeniedException("Time-in-status analytics are limited to admins and agents");
+        }
+        if (teamId != null && !teamId.equals(currentUser.teamId())) {
+            throw new AccessDeniedException("Agent cannot query another team");
+        }
+        return currentUser.teamId();
+    }
+
     private Map<String, Long> buildStatusCounts() {
         Map<String, Long> statusCounts = new LinkedHashMap<>();
 
@@ -0,0 +1,8 @@
+package com.pulsedesk.notification.repository;
+
+import java.util.List;
+
+public interface NotificationBatchRepository {
+
+    void insertAll(List<NotificationRow> notifications);
+}
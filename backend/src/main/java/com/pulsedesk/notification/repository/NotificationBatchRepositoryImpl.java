@@ -0,0 +1,35 @@
+package com.pulsedesk.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            insert into notifications (user_id, ticket_id, comment_id, type, message, created_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<NotificationRow> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (statement, notification) -> {
+            statement.setLong(1, notification.userId());
+            statement.setLong(2, notification.ticketId());
+            statement.setLong(3, notification.commentId());
+            statement.setString(4, notification.type().name());
+            statement.setString(5, notification.message());
+            statement.setObject(6, notification.createdAt());
+        });
+    }
+}
@@ -6,7 +6,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository
+        extends JpaRepository<Notification, Long>,
+        NotificationBatchRepository {
 
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
@@ -0,0 +1,14 @@
+package com.pulsedesk.notification.repository;
+
+import com.pulsedesk.notification.domain.NotificationType;
+
+import java.time.OffsetDateTime;
+
+public record NotificationRow(
+        Long userId,
+        Long ticketId,
+        Long commentId,
+        NotificationType type,
+        String message,
+        OffsetDateTime createdAt
+) {}
@@ -0,0 +1,145 @@
+package com.pulsedesk.notification.service;
+
+import com.pulsedesk.config.NotificationProperties;
+import com.pulsedesk.ticket.domain.CommentAddedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers comment notifications after commit on a bounded worker pool, or on the
+ * committing thread once the queue is full. Each delivery writes in its own transaction
+ * because an inline one runs inside the comment's after-commit callback.
+ */
+@Slf4j
+@Component
+public class CommentNotificationDispatcher {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final NotificationService notificationService;
+    private final NotificationProperties properties;
+    private final TransactionTemplate writeTransaction;
+    private final ThreadPoolExecutor executor;
+    private final Timer fanOutLag;
+    private final Counter recipients;
+    private final Counter retries;
+    private final Counter failures;
+    private final Counter inlineDeliveries;
+
+    public CommentNotificationDispatcher(
+            NotificationService notificationService,
+            PlatformTransactionManager transactionManager,
+            NotificationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.notificationService = notificationService;
+        this.properties = properties;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = new ThreadPoolExecutor(
+                properties.workerThreads(),
+                properties.workerThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                Thread.ofPlatform().name("comment-notifier-", 0).factory(),
+                this::deliverInline
+        );
+
+        Gauge.builder("notifications.comment.queue.depth", executor.getQueue(), BlockingQueue::size)
+                .register(meterRegistry);
+        this.fanOutLag = Timer.builder("notifications.comment.fanout.lag")
+                .description("Time from comment creation until its notifications are written")
+                .register(meterRegistry);
+        this.recipients = Counter.builder("notifications.comment.recipients").register(meterRegistry);
+        this.retries = Counter.builder("notifications.comment.retries").register(meterRegistry);
+        this.failures = Counter.builder("notifications.comment.failures").register(meterRegistry);
+        this.inlineDeliveries = Counter.builder("notifications.comment.inline.deliveries").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentAdded(CommentAddedEvent event) {
+        executor.execute(() -> deliver(event));
+    }
+
+    void deliver(CommentAddedEvent event) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                recipients.increment(writeTransaction.execute(status -> notificationService.notifyOnComment(event)));
+                fanOutLag.record(Duration.between(event.createdAt(), OffsetDateTime.now()));
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                // The ticket or comment was deleted in the meantime; retrying cannot succeed.
+                failures.increment();
+                log.warn("Dropping notifications for comment {}: {}", event.commentId(), ex.getMessage());
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt >= properties.maxAttempts()) {
+                    failures.increment();
+                    log.error("Giving up on notifications for comment {} after {} attempts",
+                            event.commentId(), attempt, ex);
+                    return;
+                }
+
+                retries.increment();
+                log.warn("Notification delivery for comment {} failed, retrying", event.commentId(), ex);
+
+                if (!backOff(attempt)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Dropping {} queued comment notification deliveries on shutdown", executor.getQueue().size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliverInline(Runnable delivery, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            return;
+        }
+
+        inlineDeliveries.increment();
+        delivery.run();
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(properties.retryBackoff().multipliedBy(attempt));
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
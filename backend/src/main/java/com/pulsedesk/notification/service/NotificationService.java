@@ -5,8 +5,9 @@ import com.pulsedesk.notification.domain.Notification;
 import com.pulsedesk.notification.domain.NotificationType;
 import com.pulsedesk.notification.exception.NotificationNotFoundException;
 import com.pulsedesk.notification.repository.NotificationRepository;
-import com.pulsedesk.ticket.domain.Comment;
-import com.pulsedesk.user.repo.UserRepository;
+import com.pulsedesk.notification.repository.NotificationRow;
+import com.pulsedesk.ticket.domain.CommentAddedEvent;
+import com.pulsedesk.user.service.UsernameIndex;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -30,14 +32,14 @@ public class NotificationService {
     private static final int MAX_LIMIT = 200;
 
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final UsernameIndex usernameIndex;
 
     public NotificationService(
             NotificationRepository notificationRepository,
-            UserRepository userRepository
+            UsernameIndex usernameIndex
     ) {
         this.notificationRepository = notificationRepository;
-        this.userRepository = userRepository;
+        this.usernameIndex = usernameIndex;
     }
 
     @Transactional(readOnly = true)
@@ -109,26 +111,26 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Writes the notifications for a committed comment in one batch and returns how
+     * many were written.
+     */
     @Transactional
-    public void notifyOnComment(Comment comment) {
-        if (comment == null || comment.getTicket() == null) {
-            return;
-        }
-
-        Long authorId = comment.getAuthorId();
-        Long ticketId = comment.getTicket().getId();
-
-        Set<Long> mentionedUserIds = extractMentionedUserIds(comment.getBody());
+    public int notifyOnComment(CommentAddedEvent event) {
+        Set<Long> mentionedUserIds = extractMentionedUserIds(event.body());
 
         Set<Long> recipients = new LinkedHashSet<>();
-        if (comment.getTicket().getRequesterId() != null) {
-            recipients.add(comment.getTicket().getRequesterId());
+        if (event.requesterId() != null) {
+            recipients.add(event.requesterId());
         }
-        if (comment.getTicket().getAssigneeId() != null) {
-            recipients.add(comment.getTicket().getAssigneeId());
+        if (event.assigneeId() != null) {
+            recipients.add(event.assigneeId());
         }
         recipients.addAll(mentionedUserIds);
-        recipients.remove(authorId);
+        recipients.remove(event.authorId());
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<NotificationRow> notifications = new ArrayList<>();
 
         for (Long recipientUserId : recipients) {
             if (!isValidUserId(recipientUserId)) {
@@ -140,22 +142,21 @@ public class NotificationService {
                     : NotificationType.COMMENT_ADDED;
 
             String message = type == NotificationType.MENTION
-                    ? "You were mentioned on Ticket #" + ticketId
-                    : "New comment on Ticket #" + ticketId;
-
-            createNotification(recipientUserId, comment, type, message);
+                    ? "You were mentioned on Ticket #" + event.ticketId()
+                    : "New comment on Ticket #" + event.ticketId();
+
+            notifications.add(new NotificationRow(
+                    recipientUserId,
+                    event.ticketId(),
+                    event.commentId(),
+                    type,
+                    message,
+                    now
+            ));
         }
-    }
 
-    private void createNotification(Long userId, Comment comment, NotificationType type, String message) {
-        Notification notification = new Notification(
-                userId,
-                comment.getTicket(),
-                comment,
-                type,
-                message
-        );
-        notificationRepository.save(notification);
+        notificationRepository.insertAll(notifications);
+        return notifications.size();
     }
 
     private Set<Long> extractMentionedUserIds(String body) {
@@ -164,18 +165,17 @@ public class NotificationService {
         }
 
         Matcher matcher = MENTION_USERNAME.matcher(body);
-        Set<Long> mentionedUserIds = new LinkedHashSet<>();
+        Set<String> mentionedUsernames = new LinkedHashSet<>();
 
         while (matcher.find()) {
-            String rawUsername = matcher.group(1);
-            String username = normalizeMention(rawUsername);
+            mentionedUsernames.add(normalizeMention(matcher.group(1)));
+        }
 
-            userRepository.findByUsernameIgnoreCase(username)
-                    .map(user -> user.getId())
-                    .ifPresent(mentionedUserIds::add);
+        if (mentionedUsernames.isEmpty()) {
+            return Set.of();
         }
 
-        return mentionedUserIds;
+        return new LinkedHashSet<>(usernameIndex.resolve(mentionedUsernames).values());
     }
 
     private static String normalizeMention(String username) {
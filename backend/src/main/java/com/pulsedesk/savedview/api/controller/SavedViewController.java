@@ -4,8 +4,12 @@ import com.pulsedesk.savedview.api.dto.SavedViewCreateRequest;
 import com.pulsedesk.savedview.api.dto.SavedViewResponse;
 import com.pulsedesk.savedview.service.SavedViewService;
 import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.TicketListItemResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -35,6 +39,15 @@ public class SavedViewController {
         return savedViewService.createSavedView(currentUser, request);
     }
 
+    @GetMapping("/{savedViewId}/tickets")
+    public Page<TicketListItemResponse> listSavedViewTickets(
+            @PathVariable Long savedViewId,
+            @PageableDefault(size = 20) Pageable pageable,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return savedViewService.listSavedViewTickets(currentUser, savedViewId, pageable);
+    }
+
     @DeleteMapping("/{savedViewId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteSavedView(
@@ -0,0 +1,138 @@
+package com.pulsedesk.savedview.service;
+
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+
+public record SavedViewFilterPlan(
+        TicketStatus status,
+        TicketPriority priority,
+        Long assigneeId,
+        Long teamId,
+        String query,
+        OffsetDateTime createdFrom,
+        OffsetDateTime createdTo,
+        Sort sort
+) {
+
+    static final Set<String> FILTER_KEYS = Set.of(
+            "status",
+            "priority",
+            "assigneeId",
+            "teamId",
+            "query",
+            "createdFrom",
+            "createdTo",
+            "sort"
+    );
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id",
+            "createdAt",
+            "updatedAt",
+            "priority"
+    );
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    static SavedViewFilterPlan compile(Map<String, Object> filters) {
+        for (String key : filters.keySet()) {
+            if (!FILTER_KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unsupported filter field: " + key);
+            }
+        }
+
+        return new SavedViewFilterPlan(
+                enumValue(filters, "status", TicketStatus.class),
+                enumValue(filters, "priority", TicketPriority.class),
+                longValue(filters, "assigneeId"),
+                longValue(filters, "teamId"),
+                stringValue(filters, "query"),
+                dateValue(filters, "createdFrom"),
+                dateValue(filters, "createdTo"),
+                sortValue(filters)
+        );
+    }
+
+    private static <E extends Enum<E>> E enumValue(Map<String, Object> filters, String key, Class<E> type) {
+        String value = stringValue(filters, key);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid " + key + ": " + value);
+        }
+    }
+
+    private static Long longValue(Map<String, Object> filters, String key) {
+        Object value = filters.get(key);
+
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+
+        try {
+            return Long.valueOf(value.toString().trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + key + ": " + value);
+        }
+    }
+
+    private static String stringValue(Map<String, Object> filters, String key) {
+        Object value = filters.get(key);
+
+        if (value == null || value.toString().isBlank()) {
+            return null;
+        }
+
+        return value.toString().trim();
+    }
+
+    private static OffsetDateTime dateValue(Map<String, Object> filters, String key) {
+        String value = stringValue(filters, key);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid " + key + ": " + value);
+        }
+    }
+
+    private static Sort sortValue(Map<String, Object> filters) {
+        String value = stringValue(filters, "sort");
+
+        if (value == null) {
+            return DEFAULT_SORT;
+        }
+
+        String[] parts = value.split(",");
+        String property = parts[0].trim();
+
+        if (!SORTABLE_FIELDS.contains(property)) {
+            throw new IllegalArgumentException("Unsupported sort field: " + property);
+        }
+
+        Sort.Direction direction = parts.length > 1
+                ? Sort.Direction.fromOptionalString(parts[1].trim()).orElse(Sort.Direction.ASC)
+                : Sort.Direction.ASC;
+
+        return Sort.by(direction, property);
+    }
+}
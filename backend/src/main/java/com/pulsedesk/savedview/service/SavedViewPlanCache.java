@@ -0,0 +1,28 @@
+package com.pulsedesk.savedview.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+@Component
+public class SavedViewPlanCache {
+
+    private static final long MAX_PLANS = 10_000;
+
+    private final Cache<Long, CompiledSavedView> plans = Caffeine.newBuilder()
+            .maximumSize(MAX_PLANS)
+            .build();
+
+    CompiledSavedView plan(Long savedViewId, Function<Long, CompiledSavedView> compiler) {
+        return plans.get(savedViewId, compiler);
+    }
+
+    void evict(Long savedViewId) {
+        plans.invalidate(savedViewId);
+    }
+
+    record CompiledSavedView(Long ownerId, SavedViewFilterPlan plan) {
+    }
+}
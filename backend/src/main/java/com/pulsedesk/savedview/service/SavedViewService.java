@@ -7,35 +7,33 @@ import com.pulsedesk.savedview.api.dto.SavedViewCreateRequest;
 import com.pulsedesk.savedview.api.dto.SavedViewResponse;
 import com.pulsedesk.savedview.domain.SavedView;
 import com.pulsedesk.savedview.repository.SavedViewRepository;
+import com.pulsedesk.savedview.service.SavedViewPlanCache.CompiledSavedView;
 import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.TicketListItemResponse;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import com.pulsedesk.ticket.service.TicketService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class SavedViewService {
 
-    private static final Set<String> ALLOWED_FILTER_KEYS = Set.of(
-            "status",
-            "priority",
-            "assigneeId",
-            "teamId",
-            "query",
-            "createdFrom",
-            "createdTo",
-            "sort"
-    );
-
     private final SavedViewRepository savedViewRepository;
     private final ObjectMapper objectMapper;
+    private final TicketService ticketService;
+    private final SavedViewPlanCache planCache;
 
     @Transactional(readOnly = true)
     public List<SavedViewResponse> listSavedViews(AuthPrincipal currentUser) {
@@ -53,7 +51,7 @@ public class SavedViewService {
     ) {
         requireAuthenticated(currentUser);
         requireValidRequest(request);
-        validateFilterJson(request.filterJson());
+        compilePlan(request.filterJson());
 
         SavedView savedView = new SavedView(
                 currentUser.userId(),
@@ -73,20 +71,67 @@ public class SavedViewService {
                 .orElseThrow(() -> new AccessDeniedException("Saved view not found or not accessible"));
 
         savedViewRepository.delete(savedView);
+        planCache.evict(savedViewId);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<TicketListItemResponse> listSavedViewTickets(
+            AuthPrincipal currentUser,
+            Long savedViewId,
+            Pageable pageable
+    ) {
+        requireAuthenticated(currentUser);
+
+        SavedViewFilterPlan plan = resolvePlan(currentUser, savedViewId);
+
+        TicketSearchCriteria criteria = ticketService.resolveSearchCriteria(
+                currentUser,
+                plan.status(),
+                plan.priority(),
+                plan.assigneeId(),
+                plan.teamId(),
+                plan.query(),
+                plan.createdFrom(),
+                plan.createdTo()
+        );
+
+        if (pageable.getSort().isSorted()) {
+            return ticketService.listTickets(criteria, pageable);
+        }
+
+        return ticketService.listTickets(criteria, PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                plan.sort()
+        ));
     }
 
-    private void validateFilterJson(String filterJson) {
+    private SavedViewFilterPlan resolvePlan(AuthPrincipal currentUser, Long savedViewId) {
+        CompiledSavedView compiled = planCache.plan(savedViewId, id ->
+                savedViewRepository.findById(id)
+                        .map(view -> new CompiledSavedView(view.getOwnerId(), compilePlan(view.getFilterJson())))
+                        .orElse(null)
+        );
+
+        if (compiled == null || !compiled.ownerId().equals(currentUser.userId())) {
+            throw new AccessDeniedException("Saved view not found or not accessible");
+        }
+
+        return compiled.plan();
+    }
+
+    private SavedViewFilterPlan compilePlan(String filterJson) {
         try {
             Map<String, Object> filters = objectMapper.readValue(
                     filterJson,
                     new TypeReference<Map<String, Object>>() {}
             );
 
-            for (String key : filters.keySet()) {
-                if (!ALLOWED_FILTER_KEYS.contains(key)) {
-                    throw new IllegalArgumentException("Unsupported filter field: " + key);
-                }
+            if (filters == null) {
+                throw new IllegalArgumentException("filterJson must be a JSON object");
             }
+
+            return SavedViewFilterPlan.compile(filters);
         } catch (JsonProcessingException ex) {
             throw new IllegalArgumentException("filterJson must be valid JSON", ex);
         }
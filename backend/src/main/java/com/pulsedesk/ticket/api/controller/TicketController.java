@@ -1,17 +1,39 @@
 package com.pulsedesk.ticket.api.controller;
 
+import com.pulsedesk.common.api.CursorPageResponse;
+import com.pulsedesk.common.web.RangeFileTransfer;
 import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.BulkAssignMatchingRequest;
 import com.pulsedesk.ticket.api.dto.BulkAssignRequest;
+import com.pulsedesk.ticket.api.dto.BulkMatchingOperationResponse;
 import com.pulsedesk.ticket.api.dto.BulkOperationResponse;
+import com.pulsedesk.ticket.api.dto.BulkTransitionMatchingRequest;
 import com.pulsedesk.ticket.api.dto.BulkTransitionRequest;
 import com.pulsedesk.ticket.api.dto.TicketAuditLogResponse;
+import com.pulsedesk.ticket.api.dto.TicketBulkJobResponse;
+import com.pulsedesk.ticket.api.dto.TicketExportJobResponse;
+import com.pulsedesk.ticket.api.dto.TicketFacetsResponse;
+import com.pulsedesk.ticket.api.dto.TicketImportResponse;
+import com.pulsedesk.ticket.api.dto.TicketListItemResponse;
 import com.pulsedesk.ticket.api.dto.TicketRequest;
 import com.pulsedesk.ticket.api.dto.TicketResponse;
+import com.pulsedesk.ticket.api.dto.TicketSliceResponse;
 import com.pulsedesk.ticket.api.dto.TicketTransitionRequest;
 import com.pulsedesk.ticket.domain.TicketPriority;
 import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
 import com.pulsedesk.ticket.service.TicketAuditService;
+import com.pulsedesk.ticket.service.TicketAuditService.AuditLogScope;
+import com.pulsedesk.ticket.service.TicketBulkJobService;
+import com.pulsedesk.ticket.service.TicketBulkOperationService;
+import com.pulsedesk.ticket.service.TicketDeltaExportService;
+import com.pulsedesk.ticket.service.TicketDeltaExportService.TicketChangeBatch;
+import com.pulsedesk.ticket.service.TicketExportJobService;
+import com.pulsedesk.ticket.service.TicketFacetService;
+import com.pulsedesk.ticket.service.TicketImportService;
 import com.pulsedesk.ticket.service.TicketService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,10 +46,16 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import static org.springframework.format.annotation.DateTimeFormat.ISO;
 
@@ -38,9 +66,20 @@ public class TicketController {
 
     private static final MediaType CSV_MEDIA_TYPE =
             new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType GZIP_MEDIA_TYPE =
+            new MediaType("application", "gzip");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final String NEXT_WATERMARK_HEADER = "X-Next-Watermark";
+    private static final String HAS_MORE_HEADER = "X-Has-More";
 
     private final TicketService ticketService;
     private final TicketAuditService ticketAuditService;
+    private final TicketBulkOperationService ticketBulkOperationService;
+    private final TicketBulkJobService ticketBulkJobService;
+    private final TicketFacetService ticketFacetService;
+    private final TicketExportJobService ticketExportJobService;
+    private final TicketImportService ticketImportService;
+    private final TicketDeltaExportService ticketDeltaExportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -51,8 +90,20 @@ public class TicketController {
         return ticketService.createTicket(currentUser, request);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public TicketImportResponse importTickets(
+            HttpServletRequest request,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) throws IOException {
+        return ticketImportService.importTickets(
+                currentUser,
+                MediaType.parseMediaType(request.getContentType()),
+                request.getInputStream()
+        );
+    }
+
     @GetMapping
-    public Page<TicketResponse> listTickets(
+    public Page<TicketListItemResponse> listTickets(
             @RequestParam(required = false) TicketStatus status,
             @RequestParam(required = false) TicketPriority priority,
             @RequestParam(required = false) Long assigneeId,
@@ -78,8 +129,8 @@ public class TicketController {
         );
     }
 
-    @GetMapping(value = "/export.csv", produces = "text/csv")
-    public ResponseEntity<String> exportTicketsCsv(
+    @GetMapping(params = "mode=slice")
+    public TicketSliceResponse listTicketsSlice(
             @RequestParam(required = false) TicketStatus status,
             @RequestParam(required = false) TicketPriority priority,
             @RequestParam(required = false) Long assigneeId,
@@ -89,10 +140,11 @@ public class TicketController {
             @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdFrom,
             @RequestParam(required = false)
             @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdTo,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             @PageableDefault(size = 20) Pageable pageable,
             @AuthenticationPrincipal AuthPrincipal currentUser
     ) {
-        String csv = ticketService.exportTicketsCsv(
+        return ticketService.listTicketsSlice(
                 currentUser,
                 status,
                 priority,
@@ -101,13 +153,176 @@ public class TicketController {
                 query,
                 createdFrom,
                 createdTo,
-                pageable
+                pageable,
+                includeTotal
+        );
+    }
+
+    @GetMapping(params = "mode=cursor")
+    public CursorPageResponse<TicketListItemResponse> listTicketsByCursor(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return ticketService.listTicketsByCursor(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo,
+                cursor,
+                size
         );
+    }
+
+    @GetMapping("/facets")
+    public TicketFacetsResponse getTicketFacets(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdTo,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return ticketFacetService.getFacets(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo
+        );
+    }
+
+    @GetMapping(value = "/export.csv", produces = {"text/csv", "application/gzip"})
+    public ResponseEntity<StreamingResponseBody> exportTicketsCsv(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdTo,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @PageableDefault(size = 20) Pageable pageable,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        TicketSearchCriteria criteria = ticketService.resolveSearchCriteria(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo
+        );
+
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output, GZIP_BUFFER_SIZE)) {
+                    ticketService.exportTicketsCsv(criteria, pageable.getSort(), gzipOutput);
+                }
+            } else {
+                ticketService.exportTicketsCsv(criteria, pageable.getSort(), output);
+            }
+        };
+
+        String filename = gzip ? "tickets.csv.gz" : "tickets.csv";
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tickets.csv\"")
-                .contentType(CSV_MEDIA_TYPE)
-                .body(csv);
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(gzip ? GZIP_MEDIA_TYPE : CSV_MEDIA_TYPE)
+                .body(body);
+    }
+
+    @GetMapping(value = "/export/changes.csv", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportTicketChangesCsv(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        TicketChangeBatch batch = ticketDeltaExportService.findChanges(currentUser, teamId, since, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"ticket-changes.csv\"")
+                .header(HAS_MORE_HEADER, String.valueOf(batch.hasMore()))
+                .contentType(CSV_MEDIA_TYPE);
+
+        if (batch.nextWatermark() != null) {
+            response.header(NEXT_WATERMARK_HEADER, batch.nextWatermark());
+        }
+
+        return response.body(output -> ticketDeltaExportService.writeCsv(batch, output));
+    }
+
+    @PostMapping("/export-jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public TicketExportJobResponse createExportJob(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdTo,
+            @PageableDefault(size = 20) Pageable pageable,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return TicketExportJobResponse.from(ticketExportJobService.createJob(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo,
+                pageable.getSort()
+        ));
+    }
+
+    @GetMapping("/export-jobs/{jobId}")
+    public TicketExportJobResponse getExportJob(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return TicketExportJobResponse.from(ticketExportJobService.getJob(currentUser, jobId));
+    }
+
+    @GetMapping("/export-jobs/{jobId}/file")
+    public void downloadExportJobFile(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal AuthPrincipal currentUser,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Path file = ticketExportJobService.getCompletedFile(currentUser, jobId);
+
+        RangeFileTransfer.send(file, "tickets-" + jobId + ".csv", CSV_MEDIA_TYPE, request, response);
     }
 
     @GetMapping("/{ticketId}")
@@ -141,7 +356,7 @@ public class TicketController {
             @Valid @RequestBody BulkAssignRequest request,
             @AuthenticationPrincipal AuthPrincipal currentUser
     ) {
-        return ticketService.bulkAssign(currentUser, request);
+        return ticketBulkOperationService.bulkAssign(currentUser, request);
     }
 
     @PostMapping("/bulk/transition")
@@ -149,7 +364,107 @@ public class TicketController {
             @Valid @RequestBody BulkTransitionRequest request,
             @AuthenticationPrincipal AuthPrincipal currentUser
     ) {
-        return ticketService.bulkTransition(currentUser, request);
+        return ticketBulkOperationService.bulkTransition(currentUser, request);
+    }
+
+    @PostMapping(value = "/bulk/assign", params = "async=true")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public TicketBulkJobResponse createBulkAssignJob(
+            @Valid @RequestBody BulkAssignRequest request,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return TicketBulkJobResponse.from(ticketBulkJobService.createAssignJob(currentUser, request));
+    }
+
+    @PostMapping(value = "/bulk/transition", params = "async=true")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public TicketBulkJobResponse createBulkTransitionJob(
+            @Valid @RequestBody BulkTransitionRequest request,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return TicketBulkJobResponse.from(ticketBulkJobService.createTransitionJob(currentUser, request));
+    }
+
+    @PostMapping("/bulk/assign/matching")
+    public BulkMatchingOperationResponse bulkAssignMatching(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdTo,
+            @Valid @RequestBody BulkAssignMatchingRequest request,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        TicketSearchCriteria criteria = ticketService.resolveSearchCriteria(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo
+        );
+
+        return ticketBulkOperationService.assignMatching(currentUser, criteria, request.assigneeId());
+    }
+
+    @PostMapping("/bulk/transition/matching")
+    public BulkMatchingOperationResponse bulkTransitionMatching(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdTo,
+            @Valid @RequestBody BulkTransitionMatchingRequest request,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        TicketSearchCriteria criteria = ticketService.resolveSearchCriteria(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo
+        );
+
+        return ticketBulkOperationService.transitionMatching(currentUser, criteria, request.status());
+    }
+
+    @GetMapping("/bulk/jobs/{jobId}")
+    public TicketBulkJobResponse getBulkJob(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return TicketBulkJobResponse.from(ticketBulkJobService.getJob(currentUser, jobId));
+    }
+
+    @GetMapping(value = "/bulk/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBulkJobEvents(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return ticketBulkJobService.subscribe(currentUser, jobId);
+    }
+
+    @GetMapping("/bulk/jobs/{jobId}/result")
+    public ResponseEntity<BulkOperationResponse> downloadBulkJobResult(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bulk-" + jobId + ".json\"")
+                .body(ticketBulkJobService.getResult(currentUser, jobId));
     }
 
     @GetMapping("/{ticketId}/audit-logs")
@@ -160,6 +475,28 @@ public class TicketController {
         return ticketAuditService.listAuditLogs(currentUser, ticketId);
     }
 
+    @GetMapping(value = "/{ticketId}/audit-logs", params = "mode=cursor")
+    public CursorPageResponse<TicketAuditLogResponse> listAuditLogsByCursor(
+            @PathVariable Long ticketId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        return ticketAuditService.listAuditLogsByCursor(currentUser, ticketId, cursor, size);
+    }
+
+    @GetMapping(value = "/{ticketId}/audit-logs", params = "mode=stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAuditLogs(
+            @PathVariable Long ticketId,
+            @AuthenticationPrincipal AuthPrincipal currentUser
+    ) {
+        AuditLogScope scope = ticketAuditService.resolveScope(currentUser, ticketId);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> ticketAuditService.writeNdjson(scope, output));
+    }
+
     @DeleteMapping("/{ticketId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteTicket(
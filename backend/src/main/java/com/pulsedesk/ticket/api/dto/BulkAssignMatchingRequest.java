@@ -0,0 +1,10 @@
+package com.pulsedesk.ticket.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record BulkAssignMatchingRequest(
+
+        @NotNull(message = "assigneeId must not be null")
+        Long assigneeId
+
+) {}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.pulsedesk.ticket.api.dto;
+
+public record BulkMatchingOperationResponse(
+        int updatedCount,
+        String message
+) {
+}
@@ -0,0 +1,11 @@
+package com.pulsedesk.ticket.api.dto;
+
+import com.pulsedesk.ticket.domain.TicketStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkTransitionMatchingRequest(
+
+        @NotNull(message = "status must not be null")
+        TicketStatus status
+
+) {}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.pulsedesk.ticket.api.dto;
+
+import com.pulsedesk.ticket.domain.TicketBulkJob;
+import com.pulsedesk.ticket.domain.TicketBulkJobStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record TicketBulkJobResponse(
+        UUID id,
+        TicketBulkJob.Operation operation,
+        TicketBulkJobStatus status,
+        int totalCount,
+        int processedCount,
+        int successCount,
+        int failureCount,
+        String failureMessage,
+        OffsetDateTime createdAt,
+        OffsetDateTime finishedAt
+) {
+
+    public static TicketBulkJobResponse from(TicketBulkJob job) {
+        return new TicketBulkJobResponse(
+                job.getId(),
+                job.getOperation(),
+                job.getStatus(),
+                job.getTotalCount(),
+                job.getProcessedCount(),
+                job.getSuccessCount(),
+                job.getFailureCount(),
+                job.getFailureMessage(),
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
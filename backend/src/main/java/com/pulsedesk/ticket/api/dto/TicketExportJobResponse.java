@@ -0,0 +1,30 @@
+package com.pulsedesk.ticket.api.dto;
+
+import com.pulsedesk.ticket.domain.TicketExportJob;
+import com.pulsedesk.ticket.domain.TicketExportJobStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record TicketExportJobResponse(
+        UUID id,
+        TicketExportJobStatus status,
+        long rowsWritten,
+        Long estimatedRows,
+        String failureMessage,
+        OffsetDateTime createdAt,
+        OffsetDateTime finishedAt
+) {
+
+    public static TicketExportJobResponse from(TicketExportJob job) {
+        return new TicketExportJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getRowsWritten(),
+                job.getEstimatedRows(),
+                job.getFailureMessage(),
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.pulsedesk.ticket.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record TicketFacetsResponse(
+        Map<String, Long> statusCounts,
+        Map<String, Long> priorityCounts,
+        List<AssigneeCount> assigneeCounts
+) {
+
+    public record AssigneeCount(
+            Long assigneeId,
+            long count
+    ) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.pulsedesk.ticket.api.dto;
+
+public record TicketImportError(
+        long line,
+        String message
+) {
+}
@@ -0,0 +1,11 @@
+package com.pulsedesk.ticket.api.dto;
+
+import java.util.List;
+
+public record TicketImportResponse(
+        long totalRows,
+        long importedCount,
+        long failedCount,
+        List<TicketImportError> errors
+) {
+}
@@ -0,0 +1,45 @@
+package com.pulsedesk.ticket.api.dto;
+
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketListItem;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TicketListItemResponse {
+
+    private Long id;
+    private String title;
+    private String descriptionPreview;
+    private TicketStatus status;
+    private TicketPriority priority;
+    private Long requesterId;
+    private Long assigneeId;
+    private Long teamId;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+    private OffsetDateTime resolvedAt;
+
+    public static TicketListItemResponse from(TicketListItem item) {
+        TicketListItemResponse dto = new TicketListItemResponse();
+
+        dto.id = item.id();
+        dto.title = item.title();
+        dto.descriptionPreview = item.descriptionPreview();
+        dto.status = item.status();
+        dto.priority = item.priority();
+        dto.requesterId = item.requesterId();
+        dto.assigneeId = item.assigneeId();
+        dto.teamId = item.teamId();
+        dto.createdAt = item.createdAt();
+        dto.updatedAt = item.updatedAt();
+        dto.resolvedAt = item.resolvedAt();
+
+        return dto;
+    }
+}
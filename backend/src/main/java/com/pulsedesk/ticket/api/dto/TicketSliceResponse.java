@@ -0,0 +1,13 @@
+package com.pulsedesk.ticket.api.dto;
+
+import java.util.List;
+
+public record TicketSliceResponse(
+        List<TicketListItemResponse> content,
+        int page,
+        int size,
+        boolean hasNext,
+        Long totalElements,
+        boolean totalEstimated
+) {
+}
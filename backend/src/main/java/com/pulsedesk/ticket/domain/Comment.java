@@ -14,7 +14,8 @@ import java.time.OffsetDateTime;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_comments_id_seq")
+    @SequenceGenerator(name = "ticket_comments_id_seq", sequenceName = "ticket_comments_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,28 @@
+package com.pulsedesk.ticket.domain;
+
+import java.time.OffsetDateTime;
+
+public record CommentAddedEvent(
+        Long commentId,
+        Long ticketId,
+        Long authorId,
+        Long requesterId,
+        Long assigneeId,
+        String body,
+        OffsetDateTime createdAt
+) {
+
+    public static CommentAddedEvent of(Comment comment) {
+        Ticket ticket = comment.getTicket();
+
+        return new CommentAddedEvent(
+                comment.getId(),
+                ticket.getId(),
+                comment.getAuthorId(),
+                ticket.getRequesterId(),
+                ticket.getAssigneeId(),
+                comment.getBody(),
+                comment.getCreatedAt()
+        );
+    }
+}
@@ -19,7 +19,8 @@ public class TicketAuditLog {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_audit_logs_id_seq")
+    @SequenceGenerator(name = "ticket_audit_logs_id_seq", sequenceName = "ticket_audit_logs_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "ticket_id", nullable = false)
@@ -68,6 +69,7 @@ public class TicketAuditLog {
         log.oldStatus = from;
         log.newStatus = to;
         log.actorId = actorId;
+        log.createdAt = OffsetDateTime.now();
         return log;
     }
 
@@ -83,6 +85,7 @@ public class TicketAuditLog {
         log.oldAssigneeId = oldAssignee;
         log.newAssigneeId = newAssignee;
         log.actorId = actorId;
+        log.createdAt = OffsetDateTime.now();
         return log;
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.pulsedesk.ticket.domain;
+
+import com.pulsedesk.ticket.api.dto.BulkOperationItemResult;
+import com.pulsedesk.ticket.api.dto.BulkOperationResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class TicketBulkJob {
+
+    public enum Operation {
+        ASSIGN,
+        TRANSITION
+    }
+
+    private final UUID id;
+    private final Long ownerId;
+    private final Operation operation;
+    private final int totalCount;
+    private final OffsetDateTime createdAt;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger successCount = new AtomicInteger();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger failureCount = new AtomicInteger();
+
+    private volatile TicketBulkJobStatus status = TicketBulkJobStatus.QUEUED;
+    private volatile BulkOperationResponse result;
+    private volatile String failureMessage;
+    private volatile OffsetDateTime finishedAt;
+
+    public TicketBulkJob(UUID id, Long ownerId, Operation operation, int totalCount, OffsetDateTime createdAt) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.operation = operation;
+        this.totalCount = totalCount;
+        this.createdAt = createdAt;
+    }
+
+    public void start() {
+        this.status = TicketBulkJobStatus.RUNNING;
+    }
+
+    public void recordChunk(List<BulkOperationItemResult> results) {
+        for (BulkOperationItemResult result : results) {
+            (result.success() ? successCount : failureCount).incrementAndGet();
+        }
+    }
+
+    public void complete(BulkOperationResponse result, OffsetDateTime now) {
+        this.result = result;
+        this.finishedAt = now;
+        this.status = TicketBulkJobStatus.COMPLETED;
+    }
+
+    public void fail(String failureMessage, OffsetDateTime now) {
+        this.failureMessage = failureMessage;
+        this.finishedAt = now;
+        this.status = TicketBulkJobStatus.FAILED;
+    }
+
+    public int getSuccessCount() {
+        return successCount.get();
+    }
+
+    public int getFailureCount() {
+        return failureCount.get();
+    }
+
+    public int getProcessedCount() {
+        return successCount.get() + failureCount.get();
+    }
+
+    public boolean isFinished() {
+        return status == TicketBulkJobStatus.COMPLETED || status == TicketBulkJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.pulsedesk.ticket.domain;
+
+public enum TicketBulkJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
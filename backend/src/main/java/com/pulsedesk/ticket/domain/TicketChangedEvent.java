@@ -0,0 +1,12 @@
+package com.pulsedesk.ticket.domain;
+
+public record TicketChangedEvent(
+        Long ticketId,
+        Long teamId,
+        Long requesterId
+) {
+
+    public static TicketChangedEvent of(Ticket ticket) {
+        return new TicketChangedEvent(ticket.getId(), ticket.getTeamId(), ticket.getRequesterId());
+    }
+}
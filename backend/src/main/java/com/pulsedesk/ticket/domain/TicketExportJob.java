@@ -0,0 +1,54 @@
+package com.pulsedesk.ticket.domain;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+public class TicketExportJob {
+
+    private final UUID id;
+    private final Long ownerId;
+    private final Long estimatedRows;
+    private final OffsetDateTime createdAt;
+
+    private volatile TicketExportJobStatus status = TicketExportJobStatus.QUEUED;
+    private volatile long rowsWritten;
+    private volatile Path file;
+    private volatile String failureMessage;
+    private volatile OffsetDateTime finishedAt;
+
+    public TicketExportJob(UUID id, Long ownerId, Long estimatedRows, OffsetDateTime createdAt) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.estimatedRows = estimatedRows;
+        this.createdAt = createdAt;
+    }
+
+    public void start() {
+        this.status = TicketExportJobStatus.RUNNING;
+    }
+
+    public void recordProgress(long rowsWritten) {
+        this.rowsWritten = rowsWritten;
+    }
+
+    public void complete(Path file, long rowsWritten, OffsetDateTime now) {
+        this.file = file;
+        this.rowsWritten = rowsWritten;
+        this.finishedAt = now;
+        this.status = TicketExportJobStatus.COMPLETED;
+    }
+
+    public void fail(String failureMessage, OffsetDateTime now) {
+        this.failureMessage = failureMessage;
+        this.finishedAt = now;
+        this.status = TicketExportJobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == TicketExportJobStatus.COMPLETED || status == TicketExportJobStatus.FAILED;
+    }
+}
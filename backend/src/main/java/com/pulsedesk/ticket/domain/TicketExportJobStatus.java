@@ -0,0 +1,8 @@
+package com.pulsedesk.ticket.domain;
+
+public enum TicketExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,28 @@
+package com.pulsedesk.ticket.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "ticket_search_documents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TicketSearchDocument {
+
+    @Id
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TSVECTOR")
+    private String document;
+}
@@ -0,0 +1,38 @@
+package com.pulsedesk.ticket.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "ticket_tombstones")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TicketTombstone {
+
+    @Id
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "requester_id", nullable = false)
+    private Long requesterId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private OffsetDateTime deletedAt;
+
+    public TicketTombstone(Ticket ticket, OffsetDateTime deletedAt) {
+        this.ticketId = ticket.getId();
+        this.teamId = ticket.getTeamId();
+        this.requesterId = ticket.getRequesterId();
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.TicketAuditLog;
+
+import java.util.List;
+
+public interface TicketAuditLogBatchRepository {
+
+    void insertAll(List<TicketAuditLog> auditLogs);
+}
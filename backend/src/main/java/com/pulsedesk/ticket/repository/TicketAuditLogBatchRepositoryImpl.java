@@ -0,0 +1,45 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.TicketAuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TicketAuditLogBatchRepositoryImpl implements TicketAuditLogBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            insert into ticket_audit_logs (
+                ticket_id, action, old_status, new_status,
+                old_assignee_id, new_assignee_id, actor_id, created_at
+            )
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<TicketAuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, auditLogs, BATCH_SIZE, (statement, auditLog) -> {
+            statement.setLong(1, auditLog.getTicketId());
+            statement.setString(2, auditLog.getAction().name());
+            statement.setString(3, auditLog.getOldStatus() != null ? auditLog.getOldStatus().name() : null);
+            statement.setString(4, auditLog.getNewStatus() != null ? auditLog.getNewStatus().name() : null);
+            statement.setObject(5, auditLog.getOldAssigneeId(), Types.BIGINT);
+            statement.setObject(6, auditLog.getNewAssigneeId(), Types.BIGINT);
+            statement.setLong(7, auditLog.getActorId());
+            statement.setObject(8, auditLog.getCreatedAt() != null ? auditLog.getCreatedAt() : now);
+        });
+    }
+}
@@ -1,12 +1,63 @@
 package com.pulsedesk.ticket.repository;
 
 import com.pulsedesk.ticket.domain.TicketAuditLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
+/**
+ * ticket_audit_logs is partitioned by created_at; every read takes a lower bound on
+ * it (the ticket's creation time) so Postgres skips partitions older than the ticket
+ * instead of probing each one.
+ */
 public interface TicketAuditLogRepository
-        extends JpaRepository<TicketAuditLog, Long> {
+        extends JpaRepository<TicketAuditLog, Long>,
+        TicketAuditLogBatchRepository {
 
-    List<TicketAuditLog> findByTicketIdOrderByCreatedAtAsc(Long ticketId);
-}
\ No newline at end of file
+    List<TicketAuditLog> findByTicketIdAndCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+            Long ticketId,
+            OffsetDateTime createdFrom,
+            Pageable pageable
+    );
+
+    @Query("""
+            select a from TicketAuditLog a
+            where a.ticketId = :ticketId
+              and a.createdAt >= :createdFrom
+              and a.createdAt >= :afterCreatedAt
+              and (a.createdAt > :afterCreatedAt or a.id > :afterId)
+            order by a.createdAt asc, a.id asc
+            """)
+    List<TicketAuditLog> findPageAfter(
+            @Param("ticketId") Long ticketId,
+            @Param("createdFrom") OffsetDateTime createdFrom,
+            @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select a from TicketAuditLog a
+            where a.ticketId = :ticketId
+              and a.createdAt >= :createdFrom
+              and a.createdAt <= :beforeCreatedAt
+              and (a.createdAt < :beforeCreatedAt or a.id < :beforeId)
+            order by a.createdAt desc, a.id desc
+            """)
+    List<TicketAuditLog> findPageBefore(
+            @Param("ticketId") Long ticketId,
+            @Param("createdFrom") OffsetDateTime createdFrom,
+            @Param("beforeCreatedAt") OffsetDateTime beforeCreatedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    List<TicketAuditLog> findByTicketIdAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(
+            Long ticketId,
+            OffsetDateTime createdFrom
+    );
+}
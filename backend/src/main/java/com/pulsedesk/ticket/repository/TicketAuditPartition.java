@@ -0,0 +1,8 @@
+package com.pulsedesk.ticket.repository;
+
+import java.time.YearMonth;
+
+public record TicketAuditPartition(
+        String name,
+        YearMonth month
+) {}
@@ -0,0 +1,110 @@
+package com.pulsedesk.ticket.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of {@code ticket_audit_logs}. Partitions are named
+ * {@code ticket_audit_logs_pYYYYMM} and cover one UTC calendar month each; the
+ * default partition is never returned here, so retention can not touch it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketAuditPartitionRepository {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("ticket_audit_logs_p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long MAINTENANCE_LOCK_KEY = 0x7469636b61756469L;
+
+    private static final String PARTITIONS_SQL = """
+            select c.relname
+            from pg_inherits i
+            join pg_class c on c.oid = i.inhrelid
+            where i.inhparent = 'ticket_audit_logs'::regclass
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes a transaction-scoped advisory lock so only one instance maintains the
+     * partitions at a time. Returns false when another instance holds it.
+     */
+    public boolean tryMaintenanceLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select pg_try_advisory_xact_lock(?)",
+                Boolean.class,
+                MAINTENANCE_LOCK_KEY
+        ));
+    }
+
+    public String createPartition(YearMonth month) {
+        return jdbcTemplate.queryForObject(
+                "select create_ticket_audit_log_partition(?)",
+                String.class,
+                month.atDay(1)
+        );
+    }
+
+    public List<TicketAuditPartition> findPartitions() {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class)
+                .stream()
+                .map(TicketAuditPartitionRepository::toPartition)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(TicketAuditPartition::month))
+                .toList();
+    }
+
+    /**
+     * Streams every row of the partition to {@code output} as CSV with a header line
+     * and returns the number of rows written.
+     */
+    public long copyOut(TicketAuditPartition partition, OutputStream output) {
+        String sql = "copy " + quote(partition) + " to stdout with (format csv, header)";
+
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, output);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Audit partition COPY failed", ex);
+            }
+        });
+    }
+
+    public void dropPartition(TicketAuditPartition partition) {
+        jdbcTemplate.execute("alter table ticket_audit_logs detach partition " + quote(partition));
+        jdbcTemplate.execute("drop table " + quote(partition));
+    }
+
+    private static TicketAuditPartition toPartition(String name) {
+        Matcher matcher = PARTITION_NAME.matcher(name);
+
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        return new TicketAuditPartition(name, YearMonth.parse(matcher.group(1), PARTITION_MONTH));
+    }
+
+    // Names only ever come from findPartitions, which accepts nothing but the fixed pattern.
+    private static String quote(TicketAuditPartition partition) {
+        if (!PARTITION_NAME.matcher(partition.name()).matches()) {
+            throw new IllegalArgumentException("Not an audit log partition: " + partition.name());
+        }
+
+        return '"' + partition.name() + '"';
+    }
+}
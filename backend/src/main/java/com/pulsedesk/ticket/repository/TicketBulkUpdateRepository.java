@@ -0,0 +1,154 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.TicketAuditLog;
+import com.pulsedesk.ticket.domain.TicketChangedEvent;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketBulkUpdateRepository {
+
+    private static final RowMapper<TicketChangedEvent> CHANGED_TICKET = (rs, rowNum) -> new TicketChangedEvent(
+            rs.getLong("id"),
+            rs.getObject("team_id", Long.class),
+            rs.getObject("requester_id", Long.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<TicketChangedEvent> assignMatching(
+            TicketSearchCriteria criteria,
+            Long assigneeId,
+            Long actorId,
+            OffsetDateTime now,
+            int limit
+    ) {
+        TicketSqlFilter filter = TicketSqlFilter.from(criteria, "t");
+        MapSqlParameterSource parameters = filter.parameters()
+                .addValue("newAssigneeId", assigneeId)
+                .addValue("actorId", actorId)
+                .addValue("action", TicketAuditLog.Action.ASSIGNEE_CHANGE.name())
+                .addValue("now", now)
+                .addValue("limit", limit);
+
+        String sql = """
+                with target as (
+                    select t.id, t.assignee_id as old_assignee_id
+                    from tickets t
+                    where %s
+                      and t.assignee_id is distinct from :newAssigneeId
+                    order by t.id
+                    limit :limit
+                    for update of t
+                ),
+                changed as (
+                    update tickets t
+                    set assignee_id = :newAssigneeId,
+                        updated_at = :now
+                    from target
+                    where t.id = target.id
+                    returning t.id, t.team_id, t.requester_id, target.old_assignee_id
+                ),
+                audit as (
+                    insert into ticket_audit_logs (
+                        ticket_id, action, old_assignee_id, new_assignee_id, actor_id, created_at
+                    )
+                    select id, :action, old_assignee_id, :newAssigneeId, :actorId, :now
+                    from changed
+                )
+                select id, team_id, requester_id
+                from changed
+                """.formatted(filter.whereClause());
+
+        return jdbcTemplate.query(sql, parameters, CHANGED_TICKET);
+    }
+
+    public List<TicketChangedEvent> transitionMatching(
+            TicketSearchCriteria criteria,
+            Collection<TicketStatus> sourceStatuses,
+            TicketStatus targetStatus,
+            Long actorId,
+            OffsetDateTime now,
+            int limit
+    ) {
+        if (sourceStatuses.isEmpty()) {
+            return List.of();
+        }
+
+        TicketSqlFilter filter = TicketSqlFilter.from(criteria, "t");
+        MapSqlParameterSource parameters = filter.parameters()
+                .addValue("sourceStatuses", sourceStatuses.stream().map(Enum::name).toList())
+                .addValue("targetStatus", targetStatus.name())
+                .addValue("actorId", actorId)
+                .addValue("action", TicketAuditLog.Action.STATUS_CHANGE.name())
+                .addValue("now", now)
+                .addValue("limit", limit);
+
+        String resolvedAt = targetStatus == TicketStatus.RESOLVED ? ":now" : "null";
+
+        String sql = """
+                with target as (
+                    select t.id, t.status as old_status
+                    from tickets t
+                    where %1$s
+                      and t.status in (:sourceStatuses)
+                    order by t.id
+                    limit :limit
+                    for update of t
+                ),
+                changed as (
+                    update tickets t
+                    set status = :targetStatus,
+                        resolved_at = %2$s,
+                        updated_at = :now
+                    from target
+                    where t.id = target.id
+                    returning t.id, t.team_id, t.requester_id, t.priority, t.created_at, target.old_status
+                ),
+                audit as (
+                    insert into ticket_audit_logs (
+                        ticket_id, action, old_status, new_status, actor_id, created_at
+                    )
+                    select id, :action, old_status, :targetStatus, :actorId, :now
+                    from changed
+                ),
+                dwell_exited as (
+                    %3$s
+                    select id, old_status, team_id, priority,
+                           case
+                               when old_status = 'OPEN'
+                                   then greatest(extract(epoch from (:now - created_at)), 0)::bigint
+                               else 0
+                           end,
+                           null, :now
+                    from changed
+                    %4$s
+                ),
+                dwell_entered as (
+                    %3$s
+                    select id, :targetStatus, team_id, priority, 0, :now, null
+                    from changed
+                    %5$s
+                )
+                select id, team_id, requester_id
+                from changed
+                """.formatted(
+                filter.whereClause(),
+                resolvedAt,
+                TicketStatusDwellRepository.INSERT_INTO,
+                TicketStatusDwellRepository.ON_EXIT_CONFLICT,
+                TicketStatusDwellRepository.ON_ENTRY_CONFLICT
+        );
+
+        return jdbcTemplate.query(sql, parameters, CHANGED_TICKET);
+    }
+}
@@ -0,0 +1,115 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.common.pagination.ChangeWatermark;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketChangeRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<TicketChangeRow> findChanges(
+            TicketSearchCriteria scope,
+            ChangeWatermark since,
+            OffsetDateTime until,
+            int limit
+    ) {
+        TicketSqlFilter filter = TicketSqlFilter.from(scope, "t");
+        MapSqlParameterSource parameters = filter.parameters()
+                .addValue("until", until)
+                .addValue("limit", limit);
+
+        String ticketSeek = "";
+        String tombstoneSeek = "";
+
+        if (since != null) {
+            ticketSeek = "and (t.updated_at, t.id) > (:sinceAt, :sinceId)";
+            tombstoneSeek = "and (tt.deleted_at, tt.ticket_id) > (:sinceAt, :sinceId)";
+            parameters.addValue("sinceAt", since.changedAt());
+            parameters.addValue("sinceId", since.id());
+        }
+
+        String sql = """
+                select c.*
+                from (
+                    (select t.id, t.title, t.status, t.priority, t.requester_id, t.assignee_id,
+                            t.created_at, t.updated_at as changed_at, false as deleted
+                     from tickets t
+                     where %s
+                       and t.updated_at < :until
+                       %s
+                     order by t.updated_at, t.id
+                     limit :limit)
+                    union all
+                    (select tt.ticket_id, null, null, null, tt.requester_id, null,
+                            null, tt.deleted_at, true
+                     from ticket_tombstones tt
+                     where %s
+                       and tt.deleted_at < :until
+                       %s
+                     order by tt.deleted_at, tt.ticket_id
+                     limit :limit)
+                ) c
+                order by c.changed_at, c.id
+                limit :limit
+                """.formatted(filter.whereClause(), ticketSeek, tombstoneScope(scope), tombstoneSeek);
+
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) -> {
+            String status = rs.getString("status");
+            String priority = rs.getString("priority");
+
+            return new TicketChangeRow(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    status != null ? TicketStatus.valueOf(status) : null,
+                    priority != null ? TicketPriority.valueOf(priority) : null,
+                    rs.getObject("requester_id", Long.class),
+                    rs.getObject("assignee_id", Long.class),
+                    rs.getObject("created_at", OffsetDateTime.class),
+                    rs.getObject("changed_at", OffsetDateTime.class),
+                    rs.getBoolean("deleted")
+            );
+        });
+    }
+
+    /**
+     * Start of the oldest other transaction in this database that has written anything
+     * and not yet committed, or null when there is none. Rows it writes carry timestamps
+     * from after that start, so they may still appear behind a watermark taken now.
+     */
+    public OffsetDateTime findOldestOpenWriteStart() {
+        String sql = """
+                select min(xact_start)
+                from pg_stat_activity
+                where datname = current_database()
+                  and pid <> pg_backend_pid()
+                  and backend_xid is not null
+                """;
+
+        return jdbcTemplate.getJdbcTemplate().queryForObject(sql, OffsetDateTime.class);
+    }
+
+    private static String tombstoneScope(TicketSearchCriteria scope) {
+        List<String> conditions = new ArrayList<>();
+
+        if (scope.getTeamId() != null) {
+            conditions.add("tt.team_id = :teamId");
+        }
+
+        if (scope.getRequesterId() != null) {
+            conditions.add("tt.requester_id = :requesterId");
+        }
+
+        return conditions.isEmpty() ? "true" : String.join(" and ", conditions);
+    }
+}
@@ -0,0 +1,19 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+
+import java.time.OffsetDateTime;
+
+public record TicketChangeRow(
+        Long id,
+        String title,
+        TicketStatus status,
+        TicketPriority priority,
+        Long requesterId,
+        Long assigneeId,
+        OffsetDateTime createdAt,
+        OffsetDateTime changedAt,
+        boolean deleted
+) {
+}
@@ -0,0 +1,33 @@
+package com.pulsedesk.ticket.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketCountEstimator {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public long estimate(TicketSearchCriteria criteria) {
+        TicketSqlFilter filter = TicketSqlFilter.from(criteria, "t");
+
+        String plan = jdbcTemplate.queryForObject(
+                "explain (format json) select 1 from tickets t where " + filter.whereClause(),
+                filter.parameters(),
+                String.class
+        );
+
+        try {
+            JsonNode root = objectMapper.readTree(plan);
+            return root.path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to read planner estimate", ex);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.repository.TicketFacetRow.TicketFacet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketFacetRepository {
+
+    private static final int STATUS_GROUP = 0b011;
+    private static final int PRIORITY_GROUP = 0b101;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<TicketFacetRow> countFacets(TicketSearchCriteria criteria) {
+        TicketSqlFilter filter = TicketSqlFilter.from(criteria, "t");
+
+        String sql = """
+                select t.status,
+                       t.priority,
+                       t.assignee_id,
+                       grouping(t.status, t.priority, t.assignee_id) as grouping_set,
+                       count(*) as total
+                from tickets t
+                where %s
+                group by grouping sets ((t.status), (t.priority), (t.assignee_id))
+                """.formatted(filter.whereClause());
+
+        return jdbcTemplate.query(sql, filter.parameters(), (rs, rowNum) -> {
+            long total = rs.getLong("total");
+
+            return switch (rs.getInt("grouping_set")) {
+                case STATUS_GROUP -> new TicketFacetRow(TicketFacet.STATUS, rs.getString("status"), total);
+                case PRIORITY_GROUP -> new TicketFacetRow(TicketFacet.PRIORITY, rs.getString("priority"), total);
+                default -> new TicketFacetRow(TicketFacet.ASSIGNEE, rs.getString("assignee_id"), total);
+            };
+        });
+    }
+}
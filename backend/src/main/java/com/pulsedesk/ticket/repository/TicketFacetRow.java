@@ -0,0 +1,14 @@
+package com.pulsedesk.ticket.repository;
+
+public record TicketFacetRow(
+        TicketFacet facet,
+        String value,
+        long count
+) {
+
+    public enum TicketFacet {
+        STATUS,
+        PRIORITY,
+        ASSIGNEE
+    }
+}
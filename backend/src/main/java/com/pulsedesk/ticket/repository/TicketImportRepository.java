@@ -0,0 +1,116 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.common.csv.CsvWriter;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketChangedEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketImportRepository {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String COPY_SQL = """
+            copy tickets (
+                id, title, description, status, priority, requester_id,
+                assignee_id, team_id, created_at, updated_at
+            )
+            from stdin with (format csv)
+            """;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<TicketChangedEvent> copyIn(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+
+        long[] ids = allocateIds(tickets);
+        OffsetDateTime stamp = transactionTimestamp();
+        List<TicketChangedEvent> imported = new ArrayList<>(tickets.size());
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL);
+
+            try {
+                CsvWriter csv = new CsvWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+
+                for (int i = 0; i < tickets.size(); i++) {
+                    Ticket ticket = tickets.get(i);
+                    ticket.initializeTimestamps(stamp);
+
+                    csv.field(ids[i])
+                            .field(ticket.getTitle())
+                            .field(ticket.getDescription())
+                            .field(ticket.getStatus())
+                            .field(ticket.getPriority())
+                            .field(ticket.getRequesterId())
+                            .field(ticket.getAssigneeId())
+                            .field(ticket.getTeamId())
+                            .field(ticket.getCreatedAt())
+                            .field(ticket.getUpdatedAt())
+                            .endRow();
+
+                    imported.add(new TicketChangedEvent(ids[i], ticket.getTeamId(), ticket.getRequesterId()));
+                }
+
+                csv.flush();
+                copy.endCopy();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Ticket COPY failed", ex);
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+
+            return null;
+        });
+
+        return imported;
+    }
+
+    // Rows are stamped with the batch's own transaction time rather than the time the
+    // import started, so a batch committed minutes into a long import does not land
+    // behind a delta export watermark that has already moved past the start.
+    private OffsetDateTime transactionTimestamp() {
+        return jdbcTemplate.queryForObject("select now()", OffsetDateTime.class);
+    }
+
+    // Ids come from the entity's own pooled generator so imported rows share its
+    // sequence blocks with tickets saved through JPA. They are drawn before the COPY
+    // starts because the generator may need the same connection for nextval.
+    private long[] allocateIds(List<Ticket> tickets) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(Ticket.class)
+                .getGenerator();
+
+        long[] ids = new long[tickets.size()];
+
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ((Number) generator.generate(session, tickets.get(i))).longValue();
+        }
+
+        return ids;
+    }
+}
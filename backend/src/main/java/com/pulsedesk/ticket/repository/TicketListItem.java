@@ -0,0 +1,21 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+
+import java.time.OffsetDateTime;
+
+public record TicketListItem(
+        Long id,
+        String title,
+        String descriptionPreview,
+        TicketStatus status,
+        TicketPriority priority,
+        Long requesterId,
+        Long assigneeId,
+        Long teamId,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime resolvedAt
+) {
+}
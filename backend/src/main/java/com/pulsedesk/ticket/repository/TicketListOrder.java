@@ -0,0 +1,20 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.Ticket;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+
+/**
+ * Ordering a ticket listing falls back to when the caller requested no explicit sort.
+ */
+@FunctionalInterface
+public interface TicketListOrder {
+
+    TicketListOrder NONE = (root, query, cb) -> List.of();
+
+    List<Order> toOrders(Root<Ticket> root, CriteriaQuery<?> query, CriteriaBuilder cb);
+}
@@ -0,0 +1,22 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.Ticket;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TicketQueryRepository {
+
+    Page<TicketListItem> findListItems(Specification<Ticket> spec, TicketListOrder defaultOrder, Pageable pageable);
+
+    Slice<TicketListItem> findListItemSlice(Specification<Ticket> spec, TicketListOrder defaultOrder, Pageable pageable);
+
+    List<TicketListItem> findListItems(Specification<Ticket> spec, Sort sort, int limit);
+
+    Stream<TicketExportRow> streamExportRows(Specification<Ticket> spec, Sort sort);
+}
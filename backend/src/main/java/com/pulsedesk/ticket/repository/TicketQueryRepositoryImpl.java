@@ -0,0 +1,158 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class TicketQueryRepositoryImpl implements TicketQueryRepository {
+
+    static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+    static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TicketListItem> findListItems(
+            Specification<Ticket> spec,
+            TicketListOrder defaultOrder,
+            Pageable pageable
+    ) {
+        TypedQuery<TicketListItem> query = listItemQuery(spec, pageable.getSort(), defaultOrder);
+
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()))
+                    .setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<TicketListItem> findListItemSlice(
+            Specification<Ticket> spec,
+            TicketListOrder defaultOrder,
+            Pageable pageable
+    ) {
+        int pageSize = pageable.getPageSize();
+
+        List<TicketListItem> rows = listItemQuery(spec, pageable.getSort(), defaultOrder)
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TicketListItem> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<TicketListItem> findListItems(Specification<Ticket> spec, Sort sort, int limit) {
+        return listItemQuery(spec, sort, TicketListOrder.NONE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TicketExportRow> streamExportRows(Specification<Ticket> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketExportRow> query = cb.createQuery(TicketExportRow.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.select(cb.construct(
+                TicketExportRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("requesterId"),
+                root.get("assigneeId"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        ));
+
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    private TypedQuery<TicketListItem> listItemQuery(
+            Specification<Ticket> spec,
+            Sort sort,
+            TicketListOrder defaultOrder
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketListItem> query = cb.createQuery(TicketListItem.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.select(cb.construct(
+                TicketListItem.class,
+                root.get("id"),
+                root.get("title"),
+                cb.substring(root.get("description"), 1, DESCRIPTION_PREVIEW_LENGTH),
+                root.get("status"),
+                root.get("priority"),
+                root.get("requesterId"),
+                root.get("assigneeId"),
+                root.get("teamId"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("resolvedAt")
+        ));
+
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        } else {
+            query.orderBy(defaultOrder.toOrders(root, query, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Ticket> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Ticket> root = query.from(Ticket.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.select(cb.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -5,20 +5,37 @@ import com.pulsedesk.ticket.domain.TicketPriority;
 import com.pulsedesk.ticket.domain.TicketStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TicketRepository
         extends JpaRepository<Ticket, Long>,
-        JpaSpecificationExecutor<Ticket> {
+        JpaSpecificationExecutor<Ticket>,
+        TicketQueryRepository {
 
     long countByStatus(TicketStatus status);
 
     long countByPriority(TicketPriority priority);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update Ticket t
+        set t.assigneeId = :assigneeId, t.updatedAt = :updatedAt
+        where t.id in :ticketIds
+    """)
+    int assignAll(
+            @Param("ticketIds") Collection<Long> ticketIds,
+            @Param("assigneeId") Long assigneeId,
+            @Param("updatedAt") OffsetDateTime updatedAt
+    );
+
     @Query(value = """
         select avg(extract(epoch from (resolved_at - created_at)) / 3600.0)
         from tickets
@@ -29,7 +46,7 @@ public interface TicketRepository
     @Query(value = """
         select date(created_at) as day, count(*) as total
         from tickets
-        where date(created_at) >= current_date - 6
+        where created_at >= current_date - 6
         group by date(created_at)
         order by day
     """, nativeQuery = true)
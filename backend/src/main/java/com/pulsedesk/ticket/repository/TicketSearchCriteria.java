@@ -1,10 +1,13 @@
 package com.pulsedesk.ticket.repository;
 
+import com.pulsedesk.ticket.domain.TicketChangedEvent;
 import com.pulsedesk.ticket.domain.TicketPriority;
 import com.pulsedesk.ticket.domain.TicketStatus;
 import lombok.Builder;
 import lombok.Value;
 
+import java.time.OffsetDateTime;
+
 @Value
 @Builder
 public class TicketSearchCriteria {
@@ -14,4 +17,11 @@ public class TicketSearchCriteria {
     Long requesterId;
     Long teamId;
     String query;
-}
\ No newline at end of file
+    OffsetDateTime createdFrom;
+    OffsetDateTime createdTo;
+
+    public boolean mayContain(TicketChangedEvent event) {
+        return (teamId == null || teamId.equals(event.teamId()))
+                && (requesterId == null || requesterId.equals(event.requesterId()));
+    }
+}
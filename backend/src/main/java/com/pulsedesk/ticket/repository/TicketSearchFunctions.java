@@ -0,0 +1,40 @@
+package com.pulsedesk.ticket.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+public class TicketSearchFunctions implements FunctionContributor {
+
+    public static final String TS_MATCH = "ts_match_query";
+    public static final String TS_RANK = "ts_rank_query";
+    public static final String TRGM_WORD_MATCH = "trgm_word_match";
+    public static final String TRGM_WORD_SIMILARITY = "trgm_word_similarity";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                TS_MATCH,
+                "(?1 @@ to_tsquery('english', ?2))",
+                types.resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                TS_RANK,
+                "ts_rank_cd(?1, to_tsquery('english', ?2))",
+                types.resolve(StandardBasicTypes.DOUBLE)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                TRGM_WORD_MATCH,
+                "(?1 %> ?2)",
+                types.resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                TRGM_WORD_SIMILARITY,
+                "word_similarity(?2, ?1)",
+                types.resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package com.pulsedesk.ticket.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public record TicketSearchQuery(
+        String text,
+        String tsQuery
+) {
+
+    private static final Pattern TOKEN = Pattern.compile("\"([^\"]*)\"?|(\\S+)");
+    private static final Pattern NON_LEXEME = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String PREFIX_SUFFIX = ":*";
+    private static final String FOLLOWED_BY = " <-> ";
+    private static final String AND = " & ";
+
+    public static TicketSearchQuery parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        Matcher matcher = TOKEN.matcher(normalized);
+
+        List<String> terms = new ArrayList<>();
+        List<String> plainWords = new ArrayList<>();
+        boolean lastTermIsBareWord = false;
+
+        while (matcher.find()) {
+            String phrase = matcher.group(1);
+
+            if (phrase != null) {
+                List<String> words = lexemes(phrase);
+                if (!words.isEmpty()) {
+                    terms.add(group(String.join(FOLLOWED_BY, words), words.size()));
+                    plainWords.addAll(words);
+                    lastTermIsBareWord = false;
+                }
+                continue;
+            }
+
+            String token = matcher.group(2);
+            boolean prefix = token.endsWith("*");
+            List<String> words = lexemes(token);
+
+            if (words.isEmpty()) {
+                continue;
+            }
+
+            plainWords.addAll(words);
+
+            if (prefix) {
+                int last = words.size() - 1;
+                words.set(last, words.get(last) + PREFIX_SUFFIX);
+            }
+
+            terms.add(group(String.join(FOLLOWED_BY, words), words.size()));
+            lastTermIsBareWord = !prefix && words.size() == 1;
+        }
+
+        if (plainWords.isEmpty()) {
+            return null;
+        }
+
+        if (lastTermIsBareWord) {
+            int last = terms.size() - 1;
+            terms.set(last, terms.get(last) + PREFIX_SUFFIX);
+        }
+
+        return new TicketSearchQuery(
+                String.join(" ", plainWords),
+                String.join(AND, terms)
+        );
+    }
+
+    private static List<String> lexemes(String value) {
+        return new ArrayList<>(Arrays.stream(NON_LEXEME.split(value))
+                .filter(word -> !word.isEmpty())
+                .toList());
+    }
+
+    private static String group(String expression, int wordCount) {
+        return wordCount > 1 ? "(" + expression + ")" : expression;
+    }
+}
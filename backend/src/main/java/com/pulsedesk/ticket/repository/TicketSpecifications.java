@@ -1,15 +1,25 @@
 package com.pulsedesk.ticket.repository;
 
+import com.pulsedesk.common.pagination.SeekCursor;
 import com.pulsedesk.ticket.domain.Ticket;
 import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketSearchDocument;
 import com.pulsedesk.ticket.domain.TicketStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.OffsetDateTime;
-import java.util.Locale;
+import java.util.List;
 
 public final class TicketSpecifications {
 
+    private static final String ID = "id";
     private static final String STATUS = "status";
     private static final String PRIORITY = "priority";
     private static final String ASSIGNEE_ID = "assigneeId";
@@ -17,12 +27,24 @@ public final class TicketSpecifications {
     private static final String REQUESTER_ID = "requesterId";
     private static final String CREATED_AT = "createdAt";
     private static final String TITLE = "title";
-    private static final String DESCRIPTION = "description";
+    private static final String TICKET_ID = "ticketId";
+    private static final String DOCUMENT = "document";
 
     private TicketSpecifications() {
         throw new IllegalStateException("Utility class");
     }
 
+    public static Specification<Ticket> matching(TicketSearchCriteria criteria) {
+        return Specification
+                .where(hasStatus(criteria.getStatus()))
+                .and(hasPriority(criteria.getPriority()))
+                .and(hasAssignee(criteria.getAssigneeId()))
+                .and(queryText(criteria.getQuery()))
+                .and(createdBetween(criteria.getCreatedFrom(), criteria.getCreatedTo()))
+                .and(hasTeam(criteria.getTeamId()))
+                .and(hasRequester(criteria.getRequesterId()));
+    }
+
     public static Specification<Ticket> hasStatus(TicketStatus status) {
         return (root, query, cb) ->
                 status == null
@@ -44,6 +66,10 @@ public final class TicketSpecifications {
                         : cb.equal(root.get(ASSIGNEE_ID), assigneeId);
     }
 
+    public static Specification<Ticket> hasId(Long ticketId) {
+        return (root, query, cb) -> cb.equal(root.get(ID), ticketId);
+    }
+
     public static Specification<Ticket> hasTeam(Long teamId) {
         return (root, query, cb) ->
                 teamId == null
@@ -80,36 +106,113 @@ public final class TicketSpecifications {
         };
     }
 
-    public static Specification<Ticket> queryText(String queryText) {
+    public static Specification<Ticket> seek(SeekCursor cursor) {
         return (root, query, cb) -> {
 
-            String normalized = normalize(queryText);
-
-            if (normalized == null) {
+            if (cursor == null) {
                 return cb.conjunction();
             }
 
-            String pattern = "%" + normalized + "%";
+            Path<OffsetDateTime> createdAt = root.get(CREATED_AT);
+            Path<Long> id = root.get(ID);
+
+            if (cursor.isBackward()) {
+                return cb.and(
+                        cb.greaterThanOrEqualTo(createdAt, cursor.timestamp()),
+                        cb.or(
+                                cb.greaterThan(createdAt, cursor.timestamp()),
+                                cb.greaterThan(id, cursor.id())
+                        )
+                );
+            }
 
-            return cb.or(
-                    cb.like(cb.lower(root.get(TITLE)), pattern),
-                    cb.like(cb.lower(root.get(DESCRIPTION)), pattern)
+            return cb.and(
+                    cb.lessThanOrEqualTo(createdAt, cursor.timestamp()),
+                    cb.or(
+                            cb.lessThan(createdAt, cursor.timestamp()),
+                            cb.lessThan(id, cursor.id())
+                    )
             );
         };
     }
 
-    private static String normalize(String value) {
+    public static Specification<Ticket> queryText(String queryText) {
+        return (root, query, cb) -> {
 
-        if (value == null) {
-            return null;
-        }
+            TicketSearchQuery search = TicketSearchQuery.parse(queryText);
 
-        String trimmed = value.trim();
+            if (search == null) {
+                return cb.conjunction();
+            }
+
+            Subquery<Long> matchingDocument = query.subquery(Long.class);
+            Root<TicketSearchDocument> searchDocument = matchingDocument.from(TicketSearchDocument.class);
+
+            Predicate fullText = cb.isTrue(cb.function(
+                    TicketSearchFunctions.TS_MATCH,
+                    Boolean.class,
+                    searchDocument.get(DOCUMENT),
+                    cb.literal(search.tsQuery())
+            ));
+            Predicate fuzzyTitle = cb.isTrue(cb.function(
+                    TicketSearchFunctions.TRGM_WORD_MATCH,
+                    Boolean.class,
+                    searchDocument.get(TITLE),
+                    cb.literal(search.text())
+            ));
+
+            matchingDocument
+                    .select(searchDocument.get(TICKET_ID))
+                    .where(
+                            cb.equal(searchDocument.get(TICKET_ID), root.get(ID)),
+                            cb.or(fullText, fuzzyTitle)
+                    );
+
+            return cb.exists(matchingDocument);
+        };
+    }
 
-        if (trimmed.isBlank()) {
-            return null;
+    /**
+     * Relevance order for a text query: full-text rank, then fuzzy title similarity, then
+     * newest first. Empty when the query has no searchable terms.
+     */
+    public static TicketListOrder rankedBy(String queryText) {
+        TicketSearchQuery search = TicketSearchQuery.parse(queryText);
+
+        if (search == null) {
+            return TicketListOrder.NONE;
         }
 
-        return trimmed.toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> List.of(
+                cb.desc(searchDocumentScore(root, query, cb, DOCUMENT,
+                        TicketSearchFunctions.TS_RANK, search.tsQuery())),
+                cb.desc(searchDocumentScore(root, query, cb, TITLE,
+                        TicketSearchFunctions.TRGM_WORD_SIMILARITY, search.text())),
+                cb.desc(root.get(CREATED_AT)),
+                cb.desc(root.get(ID))
+        );
+    }
+
+    private static Subquery<Double> searchDocumentScore(
+            Root<Ticket> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            String attribute,
+            String function,
+            String argument
+    ) {
+        Subquery<Double> score = query.subquery(Double.class);
+        Root<TicketSearchDocument> searchDocument = score.from(TicketSearchDocument.class);
+
+        Expression<Double> value = cb.function(
+                function,
+                Double.class,
+                searchDocument.get(attribute),
+                cb.literal(argument)
+        );
+
+        return score
+                .select(value)
+                .where(cb.equal(searchDocument.get(TICKET_ID), root.get(ID)));
     }
-}
\ No newline at end of file
+}
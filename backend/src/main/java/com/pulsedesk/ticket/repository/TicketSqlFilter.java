@@ -0,0 +1,74 @@
+package com.pulsedesk.ticket.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record TicketSqlFilter(
+        String whereClause,
+        MapSqlParameterSource parameters
+) {
+
+    public static TicketSqlFilter from(TicketSearchCriteria criteria, String alias) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String column = alias + ".";
+
+        if (criteria.getStatus() != null) {
+            conditions.add(column + "status = :status");
+            parameters.addValue("status", criteria.getStatus().name());
+        }
+
+        if (criteria.getPriority() != null) {
+            conditions.add(column + "priority = :priority");
+            parameters.addValue("priority", criteria.getPriority().name());
+        }
+
+        if (criteria.getAssigneeId() != null) {
+            conditions.add(column + "assignee_id = :assigneeId");
+            parameters.addValue("assigneeId", criteria.getAssigneeId());
+        }
+
+        if (criteria.getTeamId() != null) {
+            conditions.add(column + "team_id = :teamId");
+            parameters.addValue("teamId", criteria.getTeamId());
+        }
+
+        if (criteria.getRequesterId() != null) {
+            conditions.add(column + "requester_id = :requesterId");
+            parameters.addValue("requesterId", criteria.getRequesterId());
+        }
+
+        if (criteria.getCreatedFrom() != null) {
+            conditions.add(column + "created_at >= :createdFrom");
+            parameters.addValue("createdFrom", criteria.getCreatedFrom());
+        }
+
+        if (criteria.getCreatedTo() != null) {
+            conditions.add(column + "created_at <= :createdTo");
+            parameters.addValue("createdTo", criteria.getCreatedTo());
+        }
+
+        TicketSearchQuery search = TicketSearchQuery.parse(criteria.getQuery());
+
+        if (search != null) {
+            conditions.add("""
+                    exists (
+                        select 1
+                        from ticket_search_documents tsd
+                        where tsd.ticket_id = %sid
+                          and (tsd.document @@ to_tsquery('english', :tsQuery)
+                               or tsd.title %%> :searchText)
+                    )""".formatted(column));
+            parameters.addValue("tsQuery", search.tsQuery());
+            parameters.addValue("searchText", search.text());
+        }
+
+        String whereClause = conditions.isEmpty()
+                ? "true"
+                : String.join(" and ", conditions);
+
+        return new TicketSqlFilter(whereClause, parameters);
+    }
+}
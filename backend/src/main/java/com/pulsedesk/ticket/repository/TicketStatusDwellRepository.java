@@ -0,0 +1,159 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.TicketAuditLog;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Per ticket and status: total seconds of completed stints and, while the ticket is in
+ * the status, when the current stint began. Enter and leave updates may arrive out of
+ * order through the audit queue; the conflict clauses tolerate that.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketStatusDwellRepository {
+
+    static final String INSERT_INTO = """
+            insert into ticket_status_dwell as d (
+                ticket_id, status, team_id, priority, dwell_seconds, entered_at, last_exited_at
+            )
+            """;
+
+    static final String ON_EXIT_CONFLICT = """
+            on conflict (ticket_id, status) do update
+            set dwell_seconds = d.dwell_seconds + case
+                    when d.entered_at <= excluded.last_exited_at
+                        then extract(epoch from (excluded.last_exited_at - d.entered_at))::bigint
+                    else 0
+                end,
+                entered_at = case when d.entered_at > excluded.last_exited_at then d.entered_at end,
+                last_exited_at = greatest(d.last_exited_at, excluded.last_exited_at),
+                team_id = excluded.team_id,
+                priority = excluded.priority
+            """;
+
+    static final String ON_ENTRY_CONFLICT = """
+            on conflict (ticket_id, status) do update
+            set dwell_seconds = d.dwell_seconds + case
+                    when d.entered_at is null and d.last_exited_at >= excluded.entered_at
+                        then extract(epoch from (d.last_exited_at - excluded.entered_at))::bigint
+                    else 0
+                end,
+                entered_at = case
+                    when d.last_exited_at >= excluded.entered_at then d.entered_at
+                    else excluded.entered_at
+                end,
+                team_id = excluded.team_id,
+                priority = excluded.priority
+            """;
+
+    // OPEN is only ever entered at creation, which is not audited, so its stint starts at created_at.
+    private static final String STATUS_CHANGE_SQL = """
+            with ticket as (
+                select id, team_id, priority, created_at
+                from tickets
+                where id = :ticketId
+            ),
+            exited as (
+                %1$s
+                select id, :oldStatus, team_id, priority,
+                       case
+                           when :oldStatus = 'OPEN'
+                               then greatest(extract(epoch from (:changedAt - created_at)), 0)::bigint
+                           else 0
+                       end,
+                       null, :changedAt
+                from ticket
+                %2$s
+            )
+            %1$s
+            select id, :newStatus, team_id, priority, 0, :changedAt, null
+            from ticket
+            %3$s
+            """.formatted(INSERT_INTO, ON_EXIT_CONFLICT, ON_ENTRY_CONFLICT);
+
+    private static final RowMapper<TicketStatusDwellRow> DWELL_ROW = (rs, rowNum) -> new TicketStatusDwellRow(
+            TicketStatus.valueOf(rs.getString("status")),
+            rs.getObject("team_id", Long.class),
+            TicketPriority.valueOf(rs.getString("priority")),
+            rs.getLong("ticket_count"),
+            rs.getDouble("p50"),
+            rs.getDouble("p90"),
+            rs.getDouble("p99")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void recordStatusChanges(List<TicketAuditLog> auditLogs) {
+        SqlParameterSource[] changes = auditLogs.stream()
+                .filter(auditLog -> auditLog.getAction() == TicketAuditLog.Action.STATUS_CHANGE)
+                .filter(auditLog -> auditLog.getOldStatus() != null && auditLog.getNewStatus() != null)
+                .map(auditLog -> new MapSqlParameterSource()
+                        .addValue("ticketId", auditLog.getTicketId())
+                        .addValue("oldStatus", auditLog.getOldStatus().name())
+                        .addValue("newStatus", auditLog.getNewStatus().name())
+                        .addValue("changedAt", auditLog.getCreatedAt()))
+                .toArray(SqlParameterSource[]::new);
+
+        if (changes.length > 0) {
+            jdbcTemplate.batchUpdate(STATUS_CHANGE_SQL, changes);
+        }
+    }
+
+    /**
+     * Percentiles of the time tickets spent in each status, over tickets whose last
+     * stint in it ended within [from, to). Tickets still in a status are left out
+     * until they leave it.
+     */
+    public List<TicketStatusDwellRow> findDwellPercentiles(
+            Collection<TicketStatus> statuses,
+            Long teamId,
+            TicketPriority priority,
+            OffsetDateTime from,
+            OffsetDateTime to
+    ) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("statuses", statuses.stream().map(TicketStatus::name).toList())
+                .addValue("from", from)
+                .addValue("to", to);
+
+        StringBuilder filters = new StringBuilder();
+
+        if (teamId != null) {
+            filters.append(" and team_id = :teamId");
+            parameters.addValue("teamId", teamId);
+        }
+        if (priority != null) {
+            filters.append(" and priority = :priority");
+            parameters.addValue("priority", priority.name());
+        }
+
+        String sql = """
+                select status, team_id, priority,
+                       count(*) as ticket_count,
+                       percentile_cont(0.5) within group (order by dwell_seconds) as p50,
+                       percentile_cont(0.9) within group (order by dwell_seconds) as p90,
+                       percentile_cont(0.99) within group (order by dwell_seconds) as p99
+                from ticket_status_dwell
+                where status in (:statuses)
+                  and entered_at is null
+                  and last_exited_at >= :from
+                  and last_exited_at < :to
+                  %s
+                group by status, team_id, priority
+                order by status, team_id, priority
+                """.formatted(filters);
+
+        return jdbcTemplate.query(sql, parameters, DWELL_ROW);
+    }
+}
@@ -0,0 +1,14 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+
+public record TicketStatusDwellRow(
+        TicketStatus status,
+        Long teamId,
+        TicketPriority priority,
+        long ticketCount,
+        double p50Seconds,
+        double p90Seconds,
+        double p99Seconds
+) {}
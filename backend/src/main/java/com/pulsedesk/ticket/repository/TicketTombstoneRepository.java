@@ -0,0 +1,7 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.TicketTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TicketTombstoneRepository extends JpaRepository<TicketTombstone, Long> {
+}
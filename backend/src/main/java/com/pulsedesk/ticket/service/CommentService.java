@@ -1,15 +1,15 @@
 package com.pulsedesk.ticket.service;
 
-import com.pulsedesk.notification.service.NotificationService;
 import com.pulsedesk.security.AuthPrincipal;
 import com.pulsedesk.ticket.api.dto.CommentCreateRequest;
 import com.pulsedesk.ticket.api.dto.CommentResponse;
 import com.pulsedesk.ticket.domain.Comment;
+import com.pulsedesk.ticket.domain.CommentAddedEvent;
 import com.pulsedesk.ticket.domain.Ticket;
-import com.pulsedesk.ticket.exception.TicketNotFoundException;
+import com.pulsedesk.ticket.domain.TicketChangedEvent;
 import com.pulsedesk.ticket.repository.CommentRepository;
-import com.pulsedesk.ticket.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,19 +21,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentService {
 
-    private final TicketRepository ticketRepository;
     private final CommentRepository commentRepository;
-    private final NotificationService notificationService;
-    private final TicketService ticketService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketAccessGuard accessGuard;
 
     @Transactional(readOnly = true)
     public List<CommentResponse> listComments(AuthPrincipal currentUser, Long ticketId) {
         requireAuthenticated(currentUser);
 
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new TicketNotFoundException(ticketId));
-
-        ticketService.getTicketById(currentUser, ticket.getId());
+        Ticket ticket = accessGuard.requireVisible(currentUser, ticketId);
 
         return commentRepository.findByTicket_IdOrderByCreatedAtAsc(ticket.getId())
                 .stream()
@@ -48,10 +44,7 @@ public class CommentService {
     ) {
         requireAuthenticated(currentUser);
 
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new TicketNotFoundException(ticketId));
-
-        ticketService.getTicketById(currentUser, ticket.getId());
+        Ticket ticket = accessGuard.requireVisibleForChange(currentUser, ticketId);
 
         String body = normalizeBody(request);
 
@@ -59,7 +52,10 @@ public class CommentService {
                 new Comment(ticket, currentUser.userId(), body)
         );
 
-        notificationService.notifyOnComment(saved);
+        // Notifications fan out after commit, so they neither delay nor roll back the comment.
+        eventPublisher.publishEvent(CommentAddedEvent.of(saved));
+        // Comment bodies are part of the search document, so cached text-search pages may change.
+        eventPublisher.publishEvent(TicketChangedEvent.of(ticket));
 
         return CommentResponse.from(saved);
     }
@@ -0,0 +1,152 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.exception.TicketNotFoundException;
+import com.pulsedesk.ticket.repository.TicketRepository;
+import com.pulsedesk.ticket.repository.TicketSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Loads a ticket with the user's visibility rule in the query, falling back to a plain
+ * lookup only to tell a missing ticket from a forbidden one. Results are memoized per
+ * user and ticket for the current HTTP request.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketAccessGuard {
+
+    private static final String MEMO_ATTRIBUTE = TicketAccessGuard.class.getName() + ".visibleTickets";
+
+    private final TicketRepository ticketRepository;
+
+    /**
+     * Returns the ticket if the user may view it. The instance may come from earlier
+     * in the request and be detached, so it is only meant to be read.
+     */
+    public Ticket requireVisible(AuthPrincipal currentUser, Long ticketId) {
+        requireAuthenticated(currentUser);
+
+        Map<AccessKey, Ticket> memo = requestMemo();
+        Ticket memoized = memo != null ? memo.get(new AccessKey(currentUser.userId(), ticketId)) : null;
+
+        return memoized != null ? memoized : requireVisibleForChange(currentUser, ticketId);
+    }
+
+    /**
+     * Loads the ticket in the current persistence context if the user may view it,
+     * for callers that go on to modify it.
+     */
+    public Ticket requireVisibleForChange(AuthPrincipal currentUser, Long ticketId) {
+        requireAuthenticated(currentUser);
+
+        Ticket ticket = findVisible(currentUser, ticketId).orElseGet(() -> {
+            Ticket existing = ticketRepository.findById(ticketId)
+                    .orElseThrow(() -> new TicketNotFoundException(ticketId));
+            assertCanView(currentUser, existing);
+            return existing;
+        });
+
+        Map<AccessKey, Ticket> memo = requestMemo();
+
+        if (memo != null) {
+            memo.put(new AccessKey(currentUser.userId(), ticketId), ticket);
+        }
+
+        return ticket;
+    }
+
+    public void evict(Long ticketId) {
+        Map<AccessKey, Ticket> memo = requestMemo();
+
+        if (memo != null) {
+            memo.keySet().removeIf(key -> key.ticketId().equals(ticketId));
+        }
+    }
+
+    public void assertCanView(AuthPrincipal currentUser, Ticket ticket) {
+        if (currentUser.isAdmin()) {
+            return;
+        }
+
+        if (currentUser.isAgent()) {
+            if (currentUser.teamId() == null
+                    || ticket.getTeamId() == null
+                    || !currentUser.teamId().equals(ticket.getTeamId())) {
+                throw new AccessDeniedException("Agent cannot access tickets outside the team");
+            }
+            return;
+        }
+
+        if (ticket.getRequesterId() == null || !currentUser.userId().equals(ticket.getRequesterId())) {
+            throw new AccessDeniedException("Requester can only access own tickets");
+        }
+    }
+
+    public void assertCanMutate(AuthPrincipal currentUser, Ticket ticket) {
+        assertCanView(currentUser, ticket);
+
+        if (currentUser.isAdmin() || currentUser.isAgent()) {
+            return;
+        }
+
+        throw new AccessDeniedException("Requester cannot update ticket details");
+    }
+
+    private Optional<Ticket> findVisible(AuthPrincipal currentUser, Long ticketId) {
+        if (currentUser.isAdmin()) {
+            return ticketRepository.findById(ticketId);
+        }
+
+        if (currentUser.isAgent()) {
+            if (currentUser.teamId() == null) {
+                return Optional.empty();
+            }
+            return ticketRepository.findOne(
+                    TicketSpecifications.hasId(ticketId).and(TicketSpecifications.hasTeam(currentUser.teamId()))
+            );
+        }
+
+        return ticketRepository.findOne(
+                TicketSpecifications.hasId(ticketId).and(TicketSpecifications.hasRequester(currentUser.userId()))
+        );
+    }
+
+    private static void requireAuthenticated(AuthPrincipal currentUser) {
+        if (currentUser == null || currentUser.userId() == null) {
+            throw new AccessDeniedException("Unauthenticated");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<AccessKey, Ticket> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<AccessKey, Ticket> memo = (Map<AccessKey, Ticket>) attributes.getAttribute(
+                MEMO_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST
+        );
+
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return memo;
+    }
+
+    private record AccessKey(Long userId, Long ticketId) {
+    }
+}
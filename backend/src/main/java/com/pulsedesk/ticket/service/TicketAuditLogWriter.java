@@ -0,0 +1,261 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketAuditProperties;
+import com.pulsedesk.ticket.domain.TicketAuditLog;
+import com.pulsedesk.ticket.repository.TicketAuditLogRepository;
+import com.pulsedesk.ticket.repository.TicketStatusDwellRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues audit records once the surrounding transaction commits and batch-inserts them
+ * from a single flusher thread; callers write inline while the queue stays full. Status
+ * changes also advance the time-in-status rollup. A batch the database keeps rejecting
+ * is halved until the bad rows are isolated and dropped.
+ */
+@Slf4j
+@Component
+public class TicketAuditLogWriter {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_REJECTED_ATTEMPTS = 3;
+
+    private final TicketAuditLogRepository auditLogRepository;
+    private final TicketStatusDwellRepository statusDwellRepository;
+    private final TransactionTemplate writeTransaction;
+    private final TicketAuditProperties properties;
+    private final BlockingQueue<TicketAuditLog> queue;
+    private final List<TicketAuditLog> pendingBatch = new ArrayList<>();
+    private final ExecutorService flusher;
+    private final Timer flushTimer;
+    private final Counter inlineWrites;
+    private final Counter flushFailures;
+    private final Counter droppedRows;
+    private volatile boolean running = true;
+
+    public TicketAuditLogWriter(
+            TicketAuditLogRepository auditLogRepository,
+            TicketStatusDwellRepository statusDwellRepository,
+            PlatformTransactionManager transactionManager,
+            TicketAuditProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.auditLogRepository = auditLogRepository;
+        this.statusDwellRepository = statusDwellRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Gauge.builder("tickets.audit.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.flushTimer = Timer.builder("tickets.audit.flush").register(meterRegistry);
+        this.inlineWrites = Counter.builder("tickets.audit.inline.writes").register(meterRegistry);
+        this.flushFailures = Counter.builder("tickets.audit.flush.failures").register(meterRegistry);
+        this.droppedRows = Counter.builder("tickets.audit.dropped").register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("ticket-audit-flusher").factory());
+        this.flusher.execute(this::runFlusher);
+    }
+
+    public void record(TicketAuditLog auditLog) {
+        recordAll(List.of(auditLog));
+    }
+
+    public void recordAll(List<TicketAuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(auditLogs);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(auditLogs);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        flusher.shutdown();
+
+        List<TicketAuditLog> remaining = new ArrayList<>();
+
+        try {
+            if (flusher.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                // The flusher has stopped, so a batch it failed to write is safe to take over.
+                remaining.addAll(pendingBatch);
+            } else {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        queue.drainTo(remaining);
+
+        if (!remaining.isEmpty()) {
+            log.info("Flushing {} queued audit logs on shutdown", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    private void enqueue(List<TicketAuditLog> auditLogs) {
+        List<TicketAuditLog> overflow = new ArrayList<>();
+
+        for (TicketAuditLog auditLog : auditLogs) {
+            // Once the queue has pushed back, wait no longer for the rest of this group.
+            if (!running || !overflow.isEmpty() || !offer(auditLog)) {
+                overflow.add(auditLog);
+            }
+        }
+
+        if (!overflow.isEmpty()) {
+            inlineWrites.increment(overflow.size());
+
+            try {
+                write(overflow);
+            } catch (RuntimeException ex) {
+                flushFailures.increment();
+                log.error("Failed to write {} audit logs inline", overflow.size(), ex);
+            }
+        }
+    }
+
+    private boolean offer(TicketAuditLog auditLog) {
+        try {
+            return queue.offer(auditLog, properties.enqueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runFlusher() {
+        int batchSize = Math.max(1, properties.flushBatchSize());
+        long pollMillis = Math.max(1, properties.flushInterval().toMillis());
+
+        try {
+            while (running) {
+                TicketAuditLog first = queue.poll(pollMillis, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                pendingBatch.add(first);
+                queue.drainTo(pendingBatch, batchSize - 1);
+
+                if (!flushWithRetry(pendingBatch, pollMillis)) {
+                    return;
+                }
+
+                pendingBatch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the batch, retrying transient failures for as long as the writer runs.
+     * Returns false when the writer stopped first; rows written by then have been
+     * removed from the pending batch so shutdown does not write them twice.
+     */
+    private boolean flushWithRetry(List<TicketAuditLog> batch, long pollMillis) throws InterruptedException {
+        int rejectedAttempts = 0;
+
+        while (true) {
+            RuntimeException failure = flush(batch);
+
+            if (failure == null) {
+                return true;
+            }
+
+            if (failure instanceof NonTransientDataAccessException && ++rejectedAttempts >= MAX_REJECTED_ATTEMPTS) {
+                return flushSplitting(batch, pollMillis, failure);
+            }
+
+            if (!running) {
+                return false;
+            }
+
+            Thread.sleep(pollMillis);
+        }
+    }
+
+    private boolean flushSplitting(
+            List<TicketAuditLog> batch,
+            long pollMillis,
+            RuntimeException failure
+    ) throws InterruptedException {
+        if (batch.size() == 1) {
+            TicketAuditLog auditLog = batch.get(0);
+            droppedRows.increment();
+            log.error("Dropping audit log the database keeps rejecting: ticketId={}, action={}, actorId={}, createdAt={}",
+                    auditLog.getTicketId(), auditLog.getAction(), auditLog.getActorId(), auditLog.getCreatedAt(), failure);
+            pendingBatch.remove(auditLog);
+            return true;
+        }
+
+        int middle = batch.size() / 2;
+        List<TicketAuditLog> head = new ArrayList<>(batch.subList(0, middle));
+        List<TicketAuditLog> tail = new ArrayList<>(batch.subList(middle, batch.size()));
+
+        for (List<TicketAuditLog> half : List.of(head, tail)) {
+            if (!flushWithRetry(half, pollMillis)) {
+                return false;
+            }
+            pendingBatch.removeAll(half);
+        }
+
+        return true;
+    }
+
+    private RuntimeException flush(List<TicketAuditLog> batch) {
+        long start = System.nanoTime();
+
+        try {
+            write(batch);
+            return null;
+        } catch (RuntimeException ex) {
+            flushFailures.increment();
+            log.warn("Failed to flush {} audit logs, will retry: {}", batch.size(), ex.getMessage());
+            return ex;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void write(List<TicketAuditLog> auditLogs) {
+        writeTransaction.executeWithoutResult(status -> {
+            auditLogRepository.insertAll(auditLogs);
+            statusDwellRepository.recordStatusChanges(auditLogs);
+        });
+    }
+}
@@ -0,0 +1,154 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketAuditProperties;
+import com.pulsedesk.ticket.repository.TicketAuditPartition;
+import com.pulsedesk.ticket.repository.TicketAuditPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps monthly {@code ticket_audit_logs} partitions created ahead of time and applies
+ * the retention policy: partitions older than {@code retentionMonths} full months are
+ * copied to a gzip-compressed CSV file in the archive directory, then detached and
+ * dropped. A partition is only dropped once its archive file is complete.
+ */
+@Slf4j
+@Service
+public class TicketAuditPartitionService {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final String ARCHIVE_SUFFIX = ".csv.gz";
+
+    private final TicketAuditPartitionRepository partitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketAuditProperties properties;
+
+    public TicketAuditPartitionService(
+            TicketAuditPartitionRepository partitionRepository,
+            PlatformTransactionManager transactionManager,
+            TicketAuditProperties properties
+    ) {
+        this.partitionRepository = partitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartitionsOnStartup() {
+        try {
+            createFuturePartitions(currentMonth());
+        } catch (RuntimeException ex) {
+            // Rows for missing months land in the default partition meanwhile.
+            log.warn("Unable to create audit log partitions on startup: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.tickets.audit.maintenance-cron:0 30 3 * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        maintainPartitions(currentMonth());
+    }
+
+    void maintainPartitions(YearMonth currentMonth) {
+        createFuturePartitions(currentMonth);
+
+        if (properties.retentionMonths() > 0) {
+            archiveExpiredPartitions(currentMonth.minusMonths(properties.retentionMonths()));
+        }
+    }
+
+    private void createFuturePartitions(YearMonth currentMonth) {
+        for (int i = 0; i <= properties.partitionsAhead(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> createPartition(month));
+            } catch (RuntimeException ex) {
+                // One failing month must not leave the later ones to the default partition.
+                log.error("Failed to create audit partition for {}", month, ex);
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        if (!partitionRepository.tryMaintenanceLock()) {
+            log.debug("Audit partition maintenance is running elsewhere, skipping {}", month);
+            return;
+        }
+
+        partitionRepository.createPartition(month);
+    }
+
+    private void archiveExpiredPartitions(YearMonth oldestRetainedMonth) {
+        for (TicketAuditPartition partition : partitionRepository.findPartitions()) {
+            if (!partition.month().isBefore(oldestRetainedMonth)) {
+                break;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> archive(partition));
+            } catch (RuntimeException ex) {
+                // Later partitions are newer; keep the oldest-first order and retry next run.
+                log.error("Failed to archive audit partition {}", partition.name(), ex);
+                return;
+            }
+        }
+    }
+
+    private void archive(TicketAuditPartition partition) {
+        if (!partitionRepository.tryMaintenanceLock()) {
+            log.debug("Audit partition maintenance is running elsewhere, skipping {}", partition.name());
+            return;
+        }
+
+        Path directory = properties.archiveDirectory();
+        Path partFile = directory.resolve(partition.name() + ARCHIVE_SUFFIX + PART_SUFFIX);
+        Path file = directory.resolve(partition.name() + ARCHIVE_SUFFIX);
+        long rowCount;
+
+        try {
+            Files.createDirectories(directory);
+
+            try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(partFile))) {
+                rowCount = partitionRepository.copyOut(partition, output);
+            }
+
+            Files.move(partFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            deleteQuietly(partFile);
+            throw new UncheckedIOException("Unable to write audit archive " + file, ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(partFile);
+            throw ex;
+        }
+
+        partitionRepository.dropPartition(partition);
+        log.info("Archived {} audit logs from partition {} to {}", rowCount, partition.name(), file);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Unable to delete {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private static YearMonth currentMonth() {
+        return YearMonth.now(ZoneOffset.UTC);
+    }
+}
@@ -1,28 +1,196 @@
 package com.pulsedesk.ticket.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pulsedesk.common.api.CursorPageResponse;
+import com.pulsedesk.common.pagination.SeekCursor;
 import com.pulsedesk.security.AuthPrincipal;
 import com.pulsedesk.ticket.api.dto.TicketAuditLogResponse;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketAuditLog;
 import com.pulsedesk.ticket.repository.TicketAuditLogRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class TicketAuditService {
 
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 50;
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+    private static final int STREAM_BATCH_SIZE = 1000;
+
     private final TicketAuditLogRepository auditLogRepository;
-    private final TicketService ticketService;
+    private final TicketAccessGuard accessGuard;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter auditLogWriter;
+
+    public TicketAuditService(
+            TicketAuditLogRepository auditLogRepository,
+            TicketAccessGuard accessGuard,
+            ObjectMapper objectMapper
+    ) {
+        this.auditLogRepository = auditLogRepository;
+        this.accessGuard = accessGuard;
+        this.objectMapper = objectMapper;
+        this.auditLogWriter = objectMapper.writerFor(TicketAuditLogResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
 
     public List<TicketAuditLogResponse> listAuditLogs(AuthPrincipal currentUser, Long ticketId) {
-        ticketService.getTicketById(currentUser, ticketId);
+        AuditLogScope scope = resolveScope(currentUser, ticketId);
 
-        return auditLogRepository.findByTicketIdOrderByCreatedAtAsc(ticketId)
+        return auditLogRepository.findByTicketIdAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(ticketId, scope.createdFrom())
                 .stream()
                 .map(TicketAuditLogResponse::from)
                 .toList();
     }
-}
\ No newline at end of file
+
+    public CursorPageResponse<TicketAuditLogResponse> listAuditLogsByCursor(
+            AuthPrincipal currentUser,
+            Long ticketId,
+            String cursor,
+            Integer size
+    ) {
+        AuditLogScope scope = resolveScope(currentUser, ticketId);
+        SeekCursor seekCursor = SeekCursor.decode(cursor);
+        int limit = normalizeCursorPageSize(size);
+        boolean backward = seekCursor != null && seekCursor.isBackward();
+
+        List<TicketAuditLog> rows = findPage(scope, seekCursor, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<TicketAuditLog> auditLogs = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+
+        if (backward) {
+            Collections.reverse(auditLogs);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+
+        if (!auditLogs.isEmpty()) {
+            TicketAuditLog first = auditLogs.get(0);
+            TicketAuditLog last = auditLogs.get(auditLogs.size() - 1);
+
+            boolean hasNext = backward || hasMore;
+            boolean hasPrev = backward ? hasMore : seekCursor != null;
+
+            if (hasNext) {
+                nextCursor = SeekCursor.after(last.getCreatedAt(), last.getId()).encode();
+            }
+            if (hasPrev) {
+                prevCursor = SeekCursor.before(first.getCreatedAt(), first.getId()).encode();
+            }
+        }
+
+        return new CursorPageResponse<>(
+                auditLogs.stream().map(TicketAuditLogResponse::from).toList(),
+                limit,
+                nextCursor,
+                prevCursor
+        );
+    }
+
+    /**
+     * Checks once that the current user may read the ticket's audit trail and returns
+     * the bounds used to read it, so a stream can be written afterwards without
+     * repeating the check.
+     */
+    public AuditLogScope resolveScope(AuthPrincipal currentUser, Long ticketId) {
+        Ticket ticket = accessGuard.requireVisible(currentUser, ticketId);
+
+        // No audit entry predates its ticket, so the creation time bounds the partitions to read.
+        return new AuditLogScope(ticketId, ticket.getCreatedAt());
+    }
+
+    /**
+     * Writes the audit trail as NDJSON in (createdAt, id) order. Rows are read in keyset
+     * batches, each its own short query, so neither a transaction nor the full history
+     * is held while the client consumes the response.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long writeNdjson(AuditLogScope scope, OutputStream output) throws IOException {
+        long rowCount = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            SeekCursor seekCursor = null;
+            List<TicketAuditLog> batch;
+
+            do {
+                batch = findPage(scope, seekCursor, STREAM_BATCH_SIZE);
+
+                for (TicketAuditLog auditLog : batch) {
+                    auditLogWriter.writeValue(generator, TicketAuditLogResponse.from(auditLog));
+                    generator.writeRaw('\n');
+                    rowCount++;
+                }
+
+                generator.flush();
+
+                if (!batch.isEmpty()) {
+                    TicketAuditLog last = batch.get(batch.size() - 1);
+                    seekCursor = SeekCursor.after(last.getCreatedAt(), last.getId());
+                }
+            } while (batch.size() == STREAM_BATCH_SIZE);
+        }
+
+        return rowCount;
+    }
+
+    private List<TicketAuditLog> findPage(AuditLogScope scope, SeekCursor seekCursor, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+
+        if (seekCursor == null) {
+            return auditLogRepository.findByTicketIdAndCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                    scope.ticketId(),
+                    scope.createdFrom(),
+                    page
+            );
+        }
+
+        if (seekCursor.isBackward()) {
+            return auditLogRepository.findPageBefore(
+                    scope.ticketId(),
+                    scope.createdFrom(),
+                    seekCursor.timestamp(),
+                    seekCursor.id(),
+                    page
+            );
+        }
+
+        return auditLogRepository.findPageAfter(
+                scope.ticketId(),
+                scope.createdFrom(),
+                seekCursor.timestamp(),
+                seekCursor.id(),
+                page
+        );
+    }
+
+    private static int normalizeCursorPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_CURSOR_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_CURSOR_PAGE_SIZE);
+    }
+
+    public record AuditLogScope(
+            Long ticketId,
+            OffsetDateTime createdFrom
+    ) {}
+}
@@ -0,0 +1,273 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketBulkProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.BulkAssignRequest;
+import com.pulsedesk.ticket.api.dto.BulkOperationItemResult;
+import com.pulsedesk.ticket.api.dto.BulkOperationResponse;
+import com.pulsedesk.ticket.api.dto.BulkTransitionRequest;
+import com.pulsedesk.ticket.api.dto.TicketBulkJobResponse;
+import com.pulsedesk.ticket.domain.TicketBulkJob;
+import com.pulsedesk.ticket.domain.TicketBulkJobStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class TicketBulkJobService {
+
+    private static final long EVENT_STREAM_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+    private final TicketBulkOperationService ticketBulkOperationService;
+    private final TicketBulkProperties properties;
+    private final Map<UUID, TicketBulkJob> jobs = new ConcurrentHashMap<>();
+    private final Map<UUID, JobEvents> events = new ConcurrentHashMap<>();
+    private final ExecutorService jobExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ticket-bulk-job-", 0).factory()
+    );
+    private final Semaphore activeJobs;
+
+    public TicketBulkJobService(
+            TicketBulkOperationService ticketBulkOperationService,
+            TicketBulkProperties properties
+    ) {
+        this.ticketBulkOperationService = ticketBulkOperationService;
+        this.properties = properties;
+        this.activeJobs = new Semaphore(properties.maxActiveJobs());
+    }
+
+    public TicketBulkJob createAssignJob(AuthPrincipal currentUser, BulkAssignRequest request) {
+        return createJob(
+                currentUser,
+                TicketBulkJob.Operation.ASSIGN,
+                request.ticketIds(),
+                progress -> ticketBulkOperationService.bulkAssign(currentUser, request, progress)
+        );
+    }
+
+    public TicketBulkJob createTransitionJob(AuthPrincipal currentUser, BulkTransitionRequest request) {
+        return createJob(
+                currentUser,
+                TicketBulkJob.Operation.TRANSITION,
+                request.ticketIds(),
+                progress -> ticketBulkOperationService.bulkTransition(currentUser, request, progress)
+        );
+    }
+
+    public TicketBulkJob getJob(AuthPrincipal currentUser, UUID jobId) {
+        TicketBulkJob job = jobs.get(jobId);
+
+        if (job == null || !(currentUser.isAdmin() || job.getOwnerId().equals(currentUser.userId()))) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Bulk job not found");
+        }
+
+        return job;
+    }
+
+    public BulkOperationResponse getResult(AuthPrincipal currentUser, UUID jobId) {
+        TicketBulkJob job = getJob(currentUser, jobId);
+
+        if (job.getResult() == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Bulk job has no result yet");
+        }
+
+        return job.getResult();
+    }
+
+    public SseEmitter subscribe(AuthPrincipal currentUser, UUID jobId) {
+        TicketBulkJob job = getJob(currentUser, jobId);
+        SseEmitter emitter = new SseEmitter(EVENT_STREAM_TIMEOUT_MILLIS);
+
+        eventsFor(jobId).subscribe(emitter, job);
+
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.tickets.bulk.job-sweep-interval:PT5M}")
+    public void sweepExpiredJobs() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.jobRetention());
+
+        jobs.values().removeIf(job -> {
+            boolean expired = job.isFinished() && job.getFinishedAt().isBefore(cutoff);
+
+            if (expired) {
+                events.remove(job.getId());
+            }
+
+            return expired;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private TicketBulkJob createJob(
+            AuthPrincipal currentUser,
+            TicketBulkJob.Operation operation,
+            List<Long> ticketIds,
+            Function<Consumer<List<BulkOperationItemResult>>, BulkOperationResponse> work
+    ) {
+        if (currentUser == null || currentUser.userId() == null) {
+            throw new AccessDeniedException("Unauthenticated");
+        }
+
+        if (!activeJobs.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many bulk jobs in progress");
+        }
+
+        TicketBulkJob job = new TicketBulkJob(
+                UUID.randomUUID(),
+                currentUser.userId(),
+                operation,
+                (int) ticketIds.stream().distinct().count(),
+                OffsetDateTime.now()
+        );
+        jobs.put(job.getId(), job);
+
+        try {
+            jobExecutor.execute(() -> runJob(job, work));
+        } catch (RuntimeException ex) {
+            jobs.remove(job.getId());
+            activeJobs.release();
+            throw ex;
+        }
+
+        return job;
+    }
+
+    private void runJob(
+            TicketBulkJob job,
+            Function<Consumer<List<BulkOperationItemResult>>, BulkOperationResponse> work
+    ) {
+        JobEvents jobEvents = eventsFor(job.getId());
+        job.start();
+
+        // Chunk workers only record progress; a separate thread talks to the subscribers,
+        // so a slow event stream never holds up the chunks.
+        jobExecutor.execute(() -> jobEvents.publishUntilFinished(job));
+
+        try {
+            BulkOperationResponse result = work.apply(results -> {
+                job.recordChunk(results);
+                jobEvents.signal();
+            });
+            job.complete(result, OffsetDateTime.now());
+        } catch (RuntimeException ex) {
+            log.warn("Bulk job {} failed", job.getId(), ex);
+            job.fail("Bulk job failed", OffsetDateTime.now());
+        } finally {
+            activeJobs.release();
+            jobEvents.signal();
+        }
+    }
+
+    private JobEvents eventsFor(UUID jobId) {
+        return events.computeIfAbsent(jobId, id -> new JobEvents());
+    }
+
+    private static void sendFinished(SseEmitter emitter, TicketBulkJob job) {
+        String eventName = job.getStatus() == TicketBulkJobStatus.COMPLETED ? "completed" : "failed";
+
+        if (send(emitter, eventName, job)) {
+            emitter.complete();
+        }
+    }
+
+    private static boolean send(SseEmitter emitter, String eventName, TicketBulkJob job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(eventName)
+                    .id(String.valueOf(job.getProcessedCount()))
+                    .data(TicketBulkJobResponse.from(job)));
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    private static final class JobEvents {
+
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Semaphore updates = new Semaphore(0);
+
+        void signal() {
+            updates.release();
+        }
+
+        // Checked under the publishing lock: either the job finished before and this emitter
+        // gets the terminal event here, or it is registered in time for the broadcast.
+        void subscribe(SseEmitter emitter, TicketBulkJob job) {
+            emitter.onCompletion(() -> emitters.remove(emitter));
+            emitter.onTimeout(() -> emitters.remove(emitter));
+            emitter.onError(ex -> emitters.remove(emitter));
+
+            lock.lock();
+            try {
+                if (job.isFinished()) {
+                    sendFinished(emitter, job);
+                } else {
+                    emitters.add(emitter);
+                    send(emitter, "progress", job);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void publishUntilFinished(TicketBulkJob job) {
+            int publishedCount = -1;
+
+            try {
+                while (!job.isFinished()) {
+                    updates.acquire();
+                    updates.drainPermits();
+
+                    if (!job.isFinished() && job.getProcessedCount() != publishedCount) {
+                        publishedCount = job.getProcessedCount();
+                        broadcast(emitter -> send(emitter, "progress", job));
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            broadcast(emitter -> sendFinished(emitter, job));
+            emitters.clear();
+        }
+
+        private void broadcast(Consumer<SseEmitter> action) {
+            lock.lock();
+            try {
+                emitters.forEach(action);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketBulkProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.BulkAssignRequest;
+import com.pulsedesk.ticket.api.dto.BulkMatchingOperationResponse;
+import com.pulsedesk.ticket.api.dto.BulkOperationItemResult;
+import com.pulsedesk.ticket.api.dto.BulkOperationResponse;
+import com.pulsedesk.ticket.api.dto.BulkTransitionRequest;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+@Slf4j
+@Service
+public class TicketBulkOperationService {
+
+    private final TicketService ticketService;
+    private final TransactionTemplate chunkTransaction;
+    private final TicketBulkProperties properties;
+    private final ExecutorService chunkExecutor;
+    private final Semaphore chunkPermits;
+
+    public TicketBulkOperationService(
+            TicketService ticketService,
+            PlatformTransactionManager transactionManager,
+            TicketBulkProperties properties
+    ) {
+        this.ticketService = ticketService;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        // Virtual threads are cheap to start and should not be pooled; the semaphore bounds how
+        // many chunks hold a connection at once.
+        this.chunkExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ticket-bulk-", 0).factory());
+        this.chunkPermits = new Semaphore(Math.max(1, properties.maxConcurrentChunks()));
+    }
+
+    public BulkOperationResponse bulkAssign(AuthPrincipal currentUser, BulkAssignRequest request) {
+        return bulkAssign(currentUser, request, results -> {});
+    }
+
+    public BulkOperationResponse bulkAssign(
+            AuthPrincipal currentUser,
+            BulkAssignRequest request,
+            Consumer<List<BulkOperationItemResult>> progress
+    ) {
+        requireAuthenticated(currentUser);
+        requireNonNull(request, "request is required");
+        requireNonNull(request.ticketIds(), "ticketIds is required");
+        requireNonNull(request.assigneeId(), "assigneeId is required");
+
+        return runInChunks(request.ticketIds(), chunk -> ticketService.bulkAssign(
+                currentUser,
+                new BulkAssignRequest(chunk, request.assigneeId())
+        ), progress);
+    }
+
+    public BulkOperationResponse bulkTransition(AuthPrincipal currentUser, BulkTransitionRequest request) {
+        return bulkTransition(currentUser, request, results -> {});
+    }
+
+    public BulkOperationResponse bulkTransition(
+            AuthPrincipal currentUser,
+            BulkTransitionRequest request,
+            Consumer<List<BulkOperationItemResult>> progress
+    ) {
+        requireAuthenticated(currentUser);
+        requireNonNull(request, "request is required");
+        requireNonNull(request.ticketIds(), "ticketIds is required");
+        requireNonNull(request.status(), "status is required");
+
+        return runInChunks(request.ticketIds(), chunk -> ticketService.bulkTransition(
+                currentUser,
+                new BulkTransitionRequest(chunk, request.status())
+        ), progress);
+    }
+
+    public BulkMatchingOperationResponse assignMatching(
+            AuthPrincipal currentUser,
+            TicketSearchCriteria criteria,
+            Long assigneeId
+    ) {
+        requireAuthenticated(currentUser);
+        requireNonNull(criteria, "criteria is required");
+        requireNonNull(assigneeId, "assigneeId is required");
+
+        return runInBatches(limit -> ticketService.assignMatching(currentUser, criteria, assigneeId, limit));
+    }
+
+    public BulkMatchingOperationResponse transitionMatching(
+            AuthPrincipal currentUser,
+            TicketSearchCriteria criteria,
+            TicketStatus targetStatus
+    ) {
+        requireAuthenticated(currentUser);
+        requireNonNull(criteria, "criteria is required");
+        requireNonNull(targetStatus, "status is required");
+
+        return runInBatches(limit -> ticketService.transitionMatching(currentUser, criteria, targetStatus, limit));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        chunkExecutor.shutdown();
+    }
+
+    private BulkOperationResponse runInChunks(
+            List<Long> ticketIds,
+            Function<List<Long>, BulkOperationResponse> operation,
+            Consumer<List<BulkOperationItemResult>> progress
+    ) {
+        List<Long> distinctTicketIds = ticketIds.stream().distinct().toList();
+        int chunkSize = Math.max(1, properties.chunkSize());
+
+        List<Future<List<BulkOperationItemResult>>> chunks = new ArrayList<>();
+
+        for (int start = 0; start < distinctTicketIds.size(); start += chunkSize) {
+            List<Long> chunk = distinctTicketIds.subList(start, Math.min(start + chunkSize, distinctTicketIds.size()));
+            chunks.add(chunkExecutor.submit(() -> {
+                List<BulkOperationItemResult> results;
+                chunkPermits.acquire();
+
+                try {
+                    results = runChunk(chunk, operation);
+                } finally {
+                    chunkPermits.release();
+                }
+
+                progress.accept(results);
+                return results;
+            }));
+        }
+
+        List<BulkOperationItemResult> results = new ArrayList<>(distinctTicketIds.size());
+
+        for (Future<List<BulkOperationItemResult>> chunk : chunks) {
+            results.addAll(await(chunk));
+        }
+
+        int successCount = (int) results.stream().filter(BulkOperationItemResult::success).count();
+        int failureCount = results.size() - successCount;
+
+        return new BulkOperationResponse(
+                results.size(),
+                successCount,
+                failureCount,
+                successCount + " tickets processed successfully, " + failureCount + " failed",
+                results
+        );
+    }
+
+    private BulkMatchingOperationResponse runInBatches(IntUnaryOperator batch) {
+        int batchSize = Math.max(1, properties.filterBatchSize());
+        int updatedCount = 0;
+        int updated;
+
+        // Updated rows stop matching the conditional update, so each batch picks up where the last one ended.
+        do {
+            updated = chunkTransaction.execute(status -> batch.applyAsInt(batchSize));
+            updatedCount += updated;
+        } while (updated == batchSize);
+
+        return new BulkMatchingOperationResponse(updatedCount, updatedCount + " tickets updated");
+    }
+
+    private List<BulkOperationItemResult> runChunk(
+            List<Long> chunk,
+            Function<List<Long>, BulkOperationResponse> operation
+    ) {
+        try {
+            BulkOperationResponse response = chunkTransaction.execute(status -> operation.apply(chunk));
+            return response.results();
+        } catch (RuntimeException ex) {
+            if (chunk.size() == 1) {
+                return List.of(new BulkOperationItemResult(chunk.get(0), false, TicketService.safeMessage(ex)));
+            }
+
+            log.warn("Bulk chunk of {} tickets failed, retrying items individually: {}", chunk.size(), ex.getMessage());
+
+            List<BulkOperationItemResult> results = new ArrayList<>(chunk.size());
+            for (Long ticketId : chunk) {
+                results.addAll(runChunk(List.of(ticketId), operation));
+            }
+            return results;
+        }
+    }
+
+    private static List<BulkOperationItemResult> await(Future<List<BulkOperationItemResult>> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk operation interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Bulk operation failed", ex.getCause());
+        }
+    }
+
+    private static void requireAuthenticated(AuthPrincipal currentUser) {
+        if (currentUser == null || currentUser.userId() == null) {
+            throw new AccessDeniedException("Unauthenticated");
+        }
+    }
+
+    private static void requireNonNull(Object value, String message) {
+        if (value == null) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketExportProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.TicketExportJob;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketCountEstimator;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class TicketExportJobService {
+
+    private static final String PART_SUFFIX = ".csv.part";
+    private static final String FILE_SUFFIX = ".csv";
+
+    private final TicketService ticketService;
+    private final TicketCountEstimator ticketCountEstimator;
+    private final TicketExportProperties properties;
+    private final Map<UUID, TicketExportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public TicketExportJobService(
+            TicketService ticketService,
+            TicketCountEstimator ticketCountEstimator,
+            TicketExportProperties properties
+    ) {
+        this.ticketService = ticketService;
+        this.ticketCountEstimator = ticketCountEstimator;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.workerThreads(),
+                properties.workerThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.maxQueuedJobs()),
+                Thread.ofPlatform().name("ticket-export-", 0).factory()
+        );
+
+        try {
+            Files.createDirectories(properties.spoolDirectory());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to create export spool directory", ex);
+        }
+    }
+
+    public TicketExportJob createJob(
+            AuthPrincipal currentUser,
+            TicketStatus status,
+            TicketPriority priority,
+            Long assigneeId,
+            Long teamId,
+            String query,
+            OffsetDateTime createdFrom,
+            OffsetDateTime createdTo,
+            Sort sort
+    ) {
+        TicketSearchCriteria criteria = ticketService.resolveSearchCriteria(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo
+        );
+
+        TicketExportJob job = new TicketExportJob(
+                UUID.randomUUID(),
+                currentUser.userId(),
+                estimateRows(criteria),
+                OffsetDateTime.now()
+        );
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(() -> runJob(job, criteria, sort));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many export jobs in progress");
+        }
+
+        return job;
+    }
+
+    public TicketExportJob getJob(AuthPrincipal currentUser, UUID jobId) {
+        TicketExportJob job = jobs.get(jobId);
+
+        if (job == null || !(currentUser.isAdmin() || job.getOwnerId().equals(currentUser.userId()))) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Export job not found");
+        }
+
+        return job;
+    }
+
+    public Path getCompletedFile(AuthPrincipal currentUser, UUID jobId) {
+        TicketExportJob job = getJob(currentUser, jobId);
+
+        if (job.getFile() == null || !Files.exists(job.getFile())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Export job has no file to download");
+        }
+
+        return job.getFile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.tickets.export.sweep-interval:PT15M}")
+    public void sweepExpiredExports() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.retention());
+
+        jobs.values().removeIf(job -> {
+            boolean expired = job.isFinished() && job.getFinishedAt().isBefore(cutoff);
+
+            if (expired && job.getFile() != null) {
+                deleteQuietly(job.getFile());
+            }
+
+            return expired;
+        });
+
+        try (Stream<Path> files = Files.list(properties.spoolDirectory())) {
+            files.filter(file -> isOrphaned(file, cutoff)).forEach(this::deleteQuietly);
+        } catch (IOException ex) {
+            log.warn("Unable to sweep export spool directory: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void runJob(TicketExportJob job, TicketSearchCriteria criteria, Sort sort) {
+        Path partFile = properties.spoolDirectory().resolve(job.getId() + PART_SUFFIX);
+        Path file = properties.spoolDirectory().resolve(job.getId() + FILE_SUFFIX);
+
+        job.start();
+
+        try {
+            long rowCount;
+
+            try (OutputStream output = Files.newOutputStream(partFile)) {
+                rowCount = ticketService.exportTicketsCsv(criteria, sort, output, job::recordProgress);
+            }
+
+            Files.move(partFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            job.complete(file, rowCount, OffsetDateTime.now());
+        } catch (Exception ex) {
+            log.warn("Export job {} failed", job.getId(), ex);
+            deleteQuietly(partFile);
+            job.fail("Export failed", OffsetDateTime.now());
+        }
+    }
+
+    private Long estimateRows(TicketSearchCriteria criteria) {
+        try {
+            return ticketCountEstimator.estimate(criteria);
+        } catch (DataAccessException ex) {
+            return null;
+        }
+    }
+
+    private boolean isOrphaned(Path file, OffsetDateTime cutoff) {
+        String name = file.getFileName().toString();
+        String id = name.endsWith(PART_SUFFIX)
+                ? name.substring(0, name.length() - PART_SUFFIX.length())
+                : name.substring(0, Math.max(0, name.length() - FILE_SUFFIX.length()));
+
+        try {
+            return !jobs.containsKey(UUID.fromString(id))
+                    && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff.toInstant());
+        } catch (IllegalArgumentException | IOException ex) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Unable to delete export file {}: {}", file, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.TicketFacetsResponse;
+import com.pulsedesk.ticket.api.dto.TicketFacetsResponse.AssigneeCount;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketFacetRepository;
+import com.pulsedesk.ticket.repository.TicketFacetRow;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TicketFacetService {
+
+    private final TicketService ticketService;
+    private final TicketFacetRepository ticketFacetRepository;
+
+    public TicketFacetsResponse getFacets(
+            AuthPrincipal currentUser,
+            TicketStatus status,
+            TicketPriority priority,
+            Long assigneeId,
+            Long teamId,
+            String query,
+            OffsetDateTime createdFrom,
+            OffsetDateTime createdTo
+    ) {
+        TicketSearchCriteria criteria = ticketService.resolveSearchCriteria(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo
+        );
+
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (TicketStatus value : TicketStatus.values()) {
+            statusCounts.put(value.name(), 0L);
+        }
+
+        Map<String, Long> priorityCounts = new LinkedHashMap<>();
+        for (TicketPriority value : TicketPriority.values()) {
+            priorityCounts.put(value.name(), 0L);
+        }
+
+        List<AssigneeCount> assigneeCounts = new ArrayList<>();
+
+        for (TicketFacetRow row : ticketFacetRepository.countFacets(criteria)) {
+            switch (row.facet()) {
+                case STATUS -> statusCounts.put(row.value(), row.count());
+                case PRIORITY -> priorityCounts.put(row.value(), row.count());
+                case ASSIGNEE -> assigneeCounts.add(new AssigneeCount(
+                        row.value() == null ? null : Long.valueOf(row.value()),
+                        row.count()
+                ));
+            }
+        }
+
+        assigneeCounts.sort(Comparator.comparingLong(AssigneeCount::count).reversed());
+
+        return new TicketFacetsResponse(statusCounts, priorityCounts, assigneeCounts);
+    }
+}
@@ -0,0 +1,297 @@
+package com.pulsedesk.ticket.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.pulsedesk.common.csv.CsvReader;
+import com.pulsedesk.config.TicketImportProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.TicketImportError;
+import com.pulsedesk.ticket.api.dto.TicketImportResponse;
+import com.pulsedesk.ticket.api.dto.TicketRequest;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class TicketImportService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("title", "description", "priority", "teamid");
+
+    private final TicketService ticketService;
+    private final ObjectReader ticketRequestReader;
+    private final TicketImportProperties properties;
+
+    public TicketImportService(
+            TicketService ticketService,
+            ObjectMapper objectMapper,
+            TicketImportProperties properties
+    ) {
+        this.ticketService = ticketService;
+        this.ticketRequestReader = objectMapper.readerFor(TicketRequest.class);
+        this.properties = properties;
+    }
+
+    public TicketImportResponse importTickets(
+            AuthPrincipal currentUser,
+            MediaType contentType,
+            InputStream input
+    ) throws IOException {
+        if (currentUser == null || currentUser.userId() == null) {
+            throw new AccessDeniedException("Unauthenticated");
+        }
+
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        Reader reader = new InputStreamReader(input, charset);
+        RowReader rows = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? new NdjsonRowReader(reader, ticketRequestReader)
+                : new CsvRowReader(reader);
+
+        int batchSize = Math.max(1, properties.batchSize());
+        ImportReport report = new ImportReport(properties.maxReportedErrors());
+        // Only used to build the tickets; each batch is restamped with its own transaction time.
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Ticket> tickets = new ArrayList<>(batchSize);
+        List<Long> lines = new ArrayList<>(batchSize);
+
+        for (ImportRow row = rows.next(); row != null; row = rows.next()) {
+            report.totalRows++;
+
+            if (row.error() != null) {
+                report.fail(row.line(), row.error());
+                continue;
+            }
+
+            try {
+                tickets.add(ticketService.newTicket(currentUser, row.request(), now));
+                lines.add(row.line());
+            } catch (RuntimeException ex) {
+                report.fail(row.line(), safeMessage(ex));
+            }
+
+            if (tickets.size() == batchSize) {
+                importBatch(tickets, lines, report);
+                tickets.clear();
+                lines.clear();
+            }
+        }
+
+        importBatch(tickets, lines, report);
+
+        log.info("Ticket import by user {} finished: {} imported, {} failed",
+                currentUser.userId(),
+                report.importedCount,
+                report.failedCount);
+
+        return report.toResponse();
+    }
+
+    private void importBatch(List<Ticket> tickets, List<Long> lines, ImportReport report) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        try {
+            report.importedCount += ticketService.importTickets(tickets);
+        } catch (RuntimeException ex) {
+            if (tickets.size() == 1) {
+                report.fail(lines.get(0), "Ticket could not be imported");
+                return;
+            }
+
+            log.warn("Ticket import batch of {} rows failed, splitting: {}", tickets.size(), ex.getMessage());
+
+            int middle = tickets.size() / 2;
+            importBatch(tickets.subList(0, middle), lines.subList(0, middle), report);
+            importBatch(tickets.subList(middle, tickets.size()), lines.subList(middle, lines.size()), report);
+        }
+    }
+
+    private static String safeMessage(RuntimeException ex) {
+        return ex.getMessage() != null && !ex.getMessage().isBlank()
+                ? ex.getMessage()
+                : ex.getClass().getSimpleName();
+    }
+
+    private record ImportRow(long line, TicketRequest request, String error) {
+
+        static ImportRow failed(long line, String error) {
+            return new ImportRow(line, null, error);
+        }
+    }
+
+    private interface RowReader {
+
+        ImportRow next() throws IOException;
+    }
+
+    private static class CsvRowReader implements RowReader {
+
+        private final CsvReader csv;
+        private Map<String, Integer> columns;
+
+        CsvRowReader(Reader reader) {
+            this.csv = new CsvReader(reader, READ_BUFFER_SIZE);
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            if (columns == null) {
+                readHeader();
+            }
+
+            List<String> record;
+
+            try {
+                record = csv.readRecord();
+            } catch (IllegalArgumentException ex) {
+                return ImportRow.failed(csv.getRecordLine(), ex.getMessage());
+            }
+
+            if (record == null) {
+                return null;
+            }
+
+            long line = csv.getRecordLine();
+
+            try {
+                return new ImportRow(line, new TicketRequest(
+                        value(record, "title"),
+                        value(record, "description"),
+                        parsePriority(value(record, "priority")),
+                        parseId(value(record, "assigneeid"), "assigneeId"),
+                        parseId(value(record, "teamid"), "teamId")
+                ), null);
+            } catch (IllegalArgumentException ex) {
+                return ImportRow.failed(line, ex.getMessage());
+            }
+        }
+
+        private void readHeader() throws IOException {
+            List<String> header = csv.readRecord();
+            columns = new HashMap<>();
+
+            if (header == null) {
+                return;
+            }
+
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+            }
+
+            if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+                throw new IllegalArgumentException("CSV header must include title, description, priority and teamId");
+            }
+        }
+
+        private String value(List<String> record, String column) {
+            Integer index = columns.get(column);
+
+            if (index == null || index >= record.size() || record.get(index).isBlank()) {
+                return null;
+            }
+
+            return record.get(index);
+        }
+
+        private static TicketPriority parsePriority(String value) {
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                return TicketPriority.valueOf(value.strip().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid priority: " + value);
+            }
+        }
+
+        private static Long parseId(String value, String column) {
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                return Long.valueOf(value.strip());
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid " + column + ": " + value);
+            }
+        }
+    }
+
+    private static class NdjsonRowReader implements RowReader {
+
+        private final BufferedReader reader;
+        private final ObjectReader ticketRequestReader;
+        private long line;
+
+        NdjsonRowReader(Reader reader, ObjectReader ticketRequestReader) {
+            this.reader = new BufferedReader(reader, READ_BUFFER_SIZE);
+            this.ticketRequestReader = ticketRequestReader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String json;
+
+            do {
+                json = reader.readLine();
+                line++;
+            } while (json != null && json.isBlank());
+
+            if (json == null) {
+                return null;
+            }
+
+            try {
+                return new ImportRow(line, ticketRequestReader.readValue(json), null);
+            } catch (JsonProcessingException ex) {
+                return ImportRow.failed(line, "Invalid ticket JSON");
+            }
+        }
+    }
+
+    private static class ImportReport {
+
+        private final int maxReportedErrors;
+        private final List<TicketImportError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+
+        ImportReport(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(long line, String message) {
+            failedCount++;
+
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new TicketImportError(line, message));
+            }
+        }
+
+        TicketImportResponse toResponse() {
+            return new TicketImportResponse(totalRows, importedCount, failedCount, List.copyOf(errors));
+        }
+    }
+}
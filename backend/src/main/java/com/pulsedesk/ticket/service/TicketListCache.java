@@ -0,0 +1,70 @@
+package com.pulsedesk.ticket.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pulsedesk.config.TicketListingProperties;
+import com.pulsedesk.ticket.api.dto.TicketListItemResponse;
+import com.pulsedesk.ticket.domain.TicketChangedEvent;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class TicketListCache {
+
+    private final Cache<Key, Page<TicketListItemResponse>> pages;
+    private final AtomicLong ticketChanges = new AtomicLong();
+
+    public TicketListCache(TicketListingProperties properties, MeterRegistry meterRegistry) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.cacheMaximumSize())
+                .expireAfterWrite(properties.cacheTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "tickets.list");
+    }
+
+    public Page<TicketListItemResponse> get(
+            TicketSearchCriteria criteria,
+            Pageable pageable,
+            Supplier<Page<TicketListItemResponse>> loader
+    ) {
+        if (pageable.isUnpaged()) {
+            return loader.get();
+        }
+
+        Key key = new Key(criteria, pageable);
+        Page<TicketListItemResponse> cached = pages.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        long observedChanges = ticketChanges.get();
+        Page<TicketListItemResponse> page = loader.get();
+
+        if (ticketChanges.get() == observedChanges) {
+            pages.put(key, page);
+        }
+
+        return page;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        ticketChanges.incrementAndGet();
+        pages.asMap().keySet().removeIf(key -> key.criteria().mayContain(event));
+    }
+
+    private record Key(TicketSearchCriteria criteria, Pageable pageable) {
+    }
+}
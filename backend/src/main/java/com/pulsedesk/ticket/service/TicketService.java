@@ -1,38 +1,72 @@
 package com.pulsedesk.ticket.service;
 
+import com.pulsedesk.common.api.CursorPageResponse;
+import com.pulsedesk.common.csv.CsvWriter;
+import com.pulsedesk.common.pagination.SeekCursor;
+import com.pulsedesk.config.TicketListingProperties;
 import com.pulsedesk.notification.repository.NotificationRepository;
 import com.pulsedesk.security.AuthPrincipal;
 import com.pulsedesk.ticket.api.dto.BulkAssignRequest;
 import com.pulsedesk.ticket.api.dto.BulkOperationItemResult;
 import com.pulsedesk.ticket.api.dto.BulkOperationResponse;
 import com.pulsedesk.ticket.api.dto.BulkTransitionRequest;
+import com.pulsedesk.ticket.api.dto.TicketListItemResponse;
 import com.pulsedesk.ticket.api.dto.TicketRequest;
 import com.pulsedesk.ticket.api.dto.TicketResponse;
+import com.pulsedesk.ticket.api.dto.TicketSliceResponse;
 import com.pulsedesk.ticket.domain.Ticket;
 import com.pulsedesk.ticket.domain.TicketAuditLog;
+import com.pulsedesk.ticket.domain.TicketChangedEvent;
 import com.pulsedesk.ticket.domain.TicketPriority;
 import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.domain.TicketTombstone;
 import com.pulsedesk.ticket.exception.TicketNotFoundException;
 import com.pulsedesk.ticket.exception.TicketTransitionInvalidException;
 import com.pulsedesk.ticket.repository.CommentRepository;
-import com.pulsedesk.ticket.repository.TicketAuditLogRepository;
+import com.pulsedesk.ticket.repository.TicketBulkUpdateRepository;
+import com.pulsedesk.ticket.repository.TicketCountEstimator;
+import com.pulsedesk.ticket.repository.TicketExportRow;
+import com.pulsedesk.ticket.repository.TicketImportRepository;
+import com.pulsedesk.ticket.repository.TicketListItem;
 import com.pulsedesk.ticket.repository.TicketRepository;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
 import com.pulsedesk.ticket.repository.TicketSpecifications;
+import com.pulsedesk.ticket.repository.TicketTombstoneRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -40,16 +74,39 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TicketService {
 
-    private static final DateTimeFormatter CSV_DATE_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
     private static final String CSV_HEADER =
             "id,title,status,priority,requester,assignee,createdAt,updatedAt\n";
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+    private static final int EXPORT_PROGRESS_INTERVAL = 1_000;
+    private static final Sort KEYSET_SORT = Sort.by(
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id")
+    );
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
     private final TicketRepository ticketRepository;
-    private final TicketAuditLogRepository auditLogRepository;
+    private final TicketAuditLogWriter auditLogWriter;
     private final CommentRepository commentRepository;
     private final NotificationRepository notificationRepository;
+    private final TicketTombstoneRepository ticketTombstoneRepository;
+    private final TicketBulkUpdateRepository ticketBulkUpdateRepository;
+    private final TicketImportRepository ticketImportRepository;
+    private final TicketCountEstimator ticketCountEstimator;
+    private final TicketListingProperties listingProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketListCache ticketListCache;
+    private final TicketAccessGuard accessGuard;
 
     public TicketResponse createTicket(AuthPrincipal currentUser, TicketRequest request) {
+        Ticket saved = ticketRepository.save(newTicket(currentUser, request, OffsetDateTime.now()));
+        publishChange(saved);
+        return TicketResponse.from(saved);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Ticket newTicket(AuthPrincipal currentUser, TicketRequest request, OffsetDateTime now) {
         requireAuthenticated(currentUser);
         validateCreateRequest(request);
 
@@ -70,7 +127,6 @@ public class TicketService {
                 requestedTeamId
         );
 
-        OffsetDateTime now = OffsetDateTime.now();
         ticket.initializeTimestamps(now);
 
         if (request.getAssigneeId() != null) {
@@ -78,12 +134,17 @@ public class TicketService {
             ticket.assignTo(request.getAssigneeId());
         }
 
-        Ticket saved = ticketRepository.save(ticket);
-        return TicketResponse.from(saved);
+        return ticket;
     }
 
-    @Transactional(readOnly = true)
-    public Page<TicketResponse> listTickets(
+    public int importTickets(List<Ticket> tickets) {
+        List<TicketChangedEvent> imported = ticketImportRepository.copyIn(tickets);
+        publishChanges(imported);
+        return imported.size();
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Page<TicketListItemResponse> listTickets(
             AuthPrincipal currentUser,
             TicketStatus status,
             TicketPriority priority,
@@ -93,10 +154,87 @@ public class TicketService {
             OffsetDateTime createdFrom,
             OffsetDateTime createdTo,
             Pageable pageable
+    ) {
+        TicketSearchCriteria criteria = resolveSearchCriteria(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo
+        );
+
+        return listTickets(criteria, pageable);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TicketSearchCriteria resolveSearchCriteria(
+            AuthPrincipal currentUser,
+            TicketStatus status,
+            TicketPriority priority,
+            Long assigneeId,
+            Long teamId,
+            String query,
+            OffsetDateTime createdFrom,
+            OffsetDateTime createdTo
     ) {
         requireAuthenticated(currentUser);
 
-        Specification<Ticket> spec = buildTicketListSpec(
+        TicketSearchCriteria.TicketSearchCriteriaBuilder criteria = TicketSearchCriteria.builder()
+                .status(status)
+                .priority(priority)
+                .assigneeId(assigneeId)
+                .query(normalizeQuery(query))
+                .createdFrom(createdFrom)
+                .createdTo(createdTo);
+
+        if (currentUser.isAdmin()) {
+            criteria.teamId(teamId);
+        } else if (currentUser.isAgent()) {
+            Long currentTeamId = requireAgentTeam(currentUser);
+
+            if (teamId != null && !teamId.equals(currentTeamId)) {
+                throw new AccessDeniedException("Agent cannot query another team");
+            }
+
+            criteria.teamId(currentTeamId);
+        } else {
+            criteria.requesterId(currentUser.userId());
+        }
+
+        return criteria.build();
+    }
+
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Page<TicketListItemResponse> listTickets(TicketSearchCriteria criteria, Pageable pageable) {
+        return ticketListCache.get(criteria, pageable, () ->
+                ticketRepository.findListItems(
+                        TicketSpecifications.matching(criteria),
+                        TicketSpecifications.rankedBy(criteria.getQuery()),
+                        pageable
+                )
+                        .map(TicketListItemResponse::from)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public TicketSliceResponse listTicketsSlice(
+            AuthPrincipal currentUser,
+            TicketStatus status,
+            TicketPriority priority,
+            Long assigneeId,
+            Long teamId,
+            String query,
+            OffsetDateTime createdFrom,
+            OffsetDateTime createdTo,
+            Pageable pageable,
+            boolean includeTotal
+    ) {
+        requireAuthenticated(currentUser);
+
+        TicketSearchCriteria criteria = resolveSearchCriteria(
                 currentUser,
                 status,
                 priority,
@@ -106,13 +244,42 @@ public class TicketService {
                 createdFrom,
                 createdTo
         );
+        Specification<Ticket> spec = TicketSpecifications.matching(criteria);
+
+        Slice<TicketListItemResponse> slice = ticketRepository
+                .findListItemSlice(spec, TicketSpecifications.rankedBy(criteria.getQuery()), pageable)
+                .map(TicketListItemResponse::from);
+
+        Long totalElements = null;
+        boolean totalEstimated = false;
+
+        if (includeTotal) {
+            if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0)) {
+                totalElements = pageable.getOffset() + slice.getNumberOfElements();
+            } else {
+                long estimate = estimateTicketCount(criteria);
+
+                if (estimate < listingProperties.exactCountThreshold()) {
+                    totalElements = ticketRepository.count(spec);
+                } else {
+                    totalElements = estimate;
+                    totalEstimated = true;
+                }
+            }
+        }
 
-        return ticketRepository.findAll(spec, pageable)
-                .map(TicketResponse::from);
+        return new TicketSliceResponse(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext(),
+                totalElements,
+                totalEstimated
+        );
     }
 
     @Transactional(readOnly = true)
-    public String exportTicketsCsv(
+    public CursorPageResponse<TicketListItemResponse> listTicketsByCursor(
             AuthPrincipal currentUser,
             TicketStatus status,
             TicketPriority priority,
@@ -121,10 +288,15 @@ public class TicketService {
             String query,
             OffsetDateTime createdFrom,
             OffsetDateTime createdTo,
-            Pageable pageable
+            String cursor,
+            Integer size
     ) {
         requireAuthenticated(currentUser);
 
+        SeekCursor seekCursor = SeekCursor.decode(cursor);
+        int limit = normalizeCursorPageSize(size);
+        boolean backward = seekCursor != null && seekCursor.isBackward();
+
         Specification<Ticket> spec = buildTicketListSpec(
                 currentUser,
                 status,
@@ -134,39 +306,98 @@ public class TicketService {
                 query,
                 createdFrom,
                 createdTo
+        ).and(TicketSpecifications.seek(seekCursor));
+
+        Sort sort = backward ? KEYSET_SORT.ascending() : KEYSET_SORT;
+
+        List<TicketListItem> rows = ticketRepository.findListItems(spec, sort, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<TicketListItem> tickets = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+
+        if (backward) {
+            Collections.reverse(tickets);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+
+        if (!tickets.isEmpty()) {
+            TicketListItem first = tickets.get(0);
+            TicketListItem last = tickets.get(tickets.size() - 1);
+
+            boolean hasNext = backward || hasMore;
+            boolean hasPrev = backward ? hasMore : seekCursor != null;
+
+            if (hasNext) {
+                nextCursor = SeekCursor.after(last.createdAt(), last.id()).encode();
+            }
+            if (hasPrev) {
+                prevCursor = SeekCursor.before(first.createdAt(), first.id()).encode();
+            }
+        }
+
+        return new CursorPageResponse<>(
+                tickets.stream().map(TicketListItemResponse::from).toList(),
+                limit,
+                nextCursor,
+                prevCursor
         );
+    }
+
+    @Transactional(readOnly = true)
+    public long exportTicketsCsv(TicketSearchCriteria criteria, Sort sort, OutputStream output) throws IOException {
+        return exportTicketsCsv(criteria, sort, output, rowCount -> {});
+    }
 
-        Sort sort = (pageable != null && pageable.getSort().isSorted())
-                ? pageable.getSort()
+    @Transactional(readOnly = true)
+    public long exportTicketsCsv(
+            TicketSearchCriteria criteria,
+            Sort sort,
+            OutputStream output,
+            LongConsumer progress
+    ) throws IOException {
+        Sort exportSort = (sort != null && sort.isSorted())
+                ? sort
                 : Sort.by(Sort.Direction.DESC, "createdAt");
 
-        List<Ticket> tickets = ticketRepository.findAll(spec, sort);
+        CsvWriter csv = new CsvWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+        csv.raw(CSV_HEADER);
 
-        StringBuilder csv = new StringBuilder();
-        csv.append(CSV_HEADER);
+        long rowCount = 0;
 
-        for (Ticket ticket : tickets) {
-            csv.append(toCsvRow(ticket));
+        try (Stream<TicketExportRow> rows = ticketRepository.streamExportRows(
+                TicketSpecifications.matching(criteria),
+                exportSort
+        )) {
+            Iterator<TicketExportRow> iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+                writeCsvRow(csv, iterator.next());
+                rowCount++;
+
+                if (rowCount % EXPORT_PROGRESS_INTERVAL == 0) {
+                    progress.accept(rowCount);
+                }
+            }
         }
 
-        return csv.toString();
+        csv.flush();
+        return rowCount;
     }
 
     @Transactional(readOnly = true)
     public TicketResponse getTicketById(AuthPrincipal currentUser, Long ticketId) {
         requireAuthenticated(currentUser);
 
-        Ticket ticket = findTicketOrThrow(ticketId);
-        assertCanView(currentUser, ticket);
-
-        return TicketResponse.from(ticket);
+        return TicketResponse.from(accessGuard.requireVisible(currentUser, ticketId));
     }
 
     public TicketResponse updateTicket(AuthPrincipal currentUser, Long ticketId, TicketRequest request) {
         requireAuthenticated(currentUser);
 
-        Ticket ticket = findTicketOrThrow(ticketId);
-        assertCanMutate(currentUser, ticket);
+        Ticket ticket = accessGuard.requireVisibleForChange(currentUser, ticketId);
+        accessGuard.assertCanMutate(currentUser, ticket);
         validateUpdateRequest(currentUser, ticket, request);
 
         String updatedTitle = resolveUpdatedTitle(ticket, request);
@@ -187,6 +418,7 @@ public class TicketService {
         );
 
         Ticket saved = ticketRepository.save(ticket);
+        publishChange(saved);
         return TicketResponse.from(saved);
     }
 
@@ -194,7 +426,7 @@ public class TicketService {
         requireAuthenticated(currentUser);
         requireNonNull(targetStatus, "toStatus is required");
 
-        Ticket ticket = findTicketOrThrow(ticketId);
+        Ticket ticket = accessGuard.requireVisibleForChange(currentUser, ticketId);
         TicketStatus sourceStatus = ticket.getStatus();
 
         if (sourceStatus == targetStatus) {
@@ -221,8 +453,9 @@ public class TicketService {
         }
 
         Ticket saved = ticketRepository.save(ticket);
+        publishChange(saved);
 
-        auditLogRepository.save(
+        auditLogWriter.record(
                 TicketAuditLog.statusChange(
                         saved.getId(),
                         sourceStatus,
@@ -244,20 +477,41 @@ public class TicketService {
                 currentUser.userId(),
                 request.ticketIds().size());
 
-        List<BulkOperationItemResult> results = new ArrayList<>();
-        int successCount = 0;
-
         List<Long> distinctTicketIds = request.ticketIds().stream()
                 .distinct()
                 .collect(Collectors.toList());
 
+        Map<Long, Ticket> ticketsById = ticketRepository.findAllById(
+                distinctTicketIds.stream().filter(Objects::nonNull).toList()
+        ).stream().collect(Collectors.toMap(Ticket::getId, Function.identity()));
+
+        List<BulkOperationItemResult> results = new ArrayList<>();
+        List<Ticket> changedTickets = new ArrayList<>();
+        List<TicketAuditLog> auditLogs = new ArrayList<>();
+        int successCount = 0;
+
         for (Long ticketId : distinctTicketIds) {
             try {
                 requireNonNull(ticketId, "ticketId is required");
 
-                Ticket ticket = findTicketOrThrow(ticketId);
-                applyAssignment(currentUser, ticket, request.assigneeId(), OffsetDateTime.now());
-                ticketRepository.save(ticket);
+                Ticket ticket = ticketsById.get(ticketId);
+
+                if (ticket == null) {
+                    throw new TicketNotFoundException(ticketId);
+                }
+
+                accessGuard.assertCanMutate(currentUser, ticket);
+                ensureCanAssign(currentUser);
+
+                if (!sameValue(ticket.getAssigneeId(), request.assigneeId())) {
+                    changedTickets.add(ticket);
+                    auditLogs.add(TicketAuditLog.assigneeChange(
+                            ticketId,
+                            ticket.getAssigneeId(),
+                            request.assigneeId(),
+                            currentUser.userId()
+                    ));
+                }
 
                 results.add(new BulkOperationItemResult(
                         ticketId,
@@ -274,6 +528,16 @@ public class TicketService {
             }
         }
 
+        if (!changedTickets.isEmpty()) {
+            ticketRepository.assignAll(
+                    changedTickets.stream().map(Ticket::getId).toList(),
+                    request.assigneeId(),
+                    OffsetDateTime.now()
+            );
+            auditLogWriter.recordAll(auditLogs);
+            changedTickets.forEach(this::publishChange);
+        }
+
         int failureCount = distinctTicketIds.size() - successCount;
         log.info("Bulk assign completed: {} success, {} failure", successCount, failureCount);
 
@@ -325,6 +589,52 @@ public class TicketService {
         return buildBulkOperationResponse(distinctTicketIds.size(), successCount, results);
     }
 
+    public int assignMatching(
+            AuthPrincipal currentUser,
+            TicketSearchCriteria criteria,
+            Long assigneeId,
+            int limit
+    ) {
+        requireAuthenticated(currentUser);
+        requireNonNull(criteria, "criteria is required");
+        requireNonNull(assigneeId, "assigneeId is required");
+        ensureCanAssign(currentUser);
+
+        List<TicketChangedEvent> changed = ticketBulkUpdateRepository.assignMatching(
+                criteria,
+                assigneeId,
+                currentUser.userId(),
+                OffsetDateTime.now(),
+                limit
+        );
+
+        publishChanges(changed);
+        return changed.size();
+    }
+
+    public int transitionMatching(
+            AuthPrincipal currentUser,
+            TicketSearchCriteria criteria,
+            TicketStatus targetStatus,
+            int limit
+    ) {
+        requireAuthenticated(currentUser);
+        requireNonNull(criteria, "criteria is required");
+        requireNonNull(targetStatus, "status is required");
+
+        List<TicketChangedEvent> changed = ticketBulkUpdateRepository.transitionMatching(
+                criteria,
+                transitionSources(currentUser, targetStatus),
+                targetStatus,
+                currentUser.userId(),
+                OffsetDateTime.now(),
+                limit
+        );
+
+        publishChanges(changed);
+        return changed.size();
+    }
+
     public void deleteTicket(AuthPrincipal currentUser, Long ticketId) {
         requireAuthenticated(currentUser);
 
@@ -337,6 +647,9 @@ public class TicketService {
         notificationRepository.deleteByTicket_Id(ticketId);
         commentRepository.deleteByTicket_Id(ticketId);
         ticketRepository.delete(ticket);
+        ticketTombstoneRepository.save(new TicketTombstone(ticket, OffsetDateTime.now()));
+        accessGuard.evict(ticketId);
+        publishChange(ticket);
     }
 
     private Specification<Ticket> buildTicketListSpec(
@@ -349,42 +662,73 @@ public class TicketService {
             OffsetDateTime createdFrom,
             OffsetDateTime createdTo
     ) {
-        Specification<Ticket> spec = Specification
-                .where(TicketSpecifications.hasStatus(status))
-                .and(TicketSpecifications.hasPriority(priority))
-                .and(TicketSpecifications.hasAssignee(assigneeId))
-                .and(TicketSpecifications.queryText(query))
-                .and(TicketSpecifications.createdBetween(createdFrom, createdTo));
+        return TicketSpecifications.matching(resolveSearchCriteria(
+                currentUser,
+                status,
+                priority,
+                assigneeId,
+                teamId,
+                query,
+                createdFrom,
+                createdTo
+        ));
+    }
 
-        if (currentUser.isAdmin()) {
-            spec = spec.and(TicketSpecifications.hasTeam(teamId));
-        } else if (currentUser.isAgent()) {
-            Long currentTeamId = requireAgentTeam(currentUser);
+    private static String normalizeQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
 
-            if (teamId != null && !teamId.equals(currentTeamId)) {
-                throw new AccessDeniedException("Agent cannot query another team");
-            }
+        return WHITESPACE.matcher(query.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
 
-            spec = spec.and(TicketSpecifications.hasTeam(currentTeamId));
-        } else {
-            spec = spec.and(TicketSpecifications.hasRequester(currentUser.userId()));
+    private long estimateTicketCount(TicketSearchCriteria criteria) {
+        try {
+            return ticketCountEstimator.estimate(criteria);
+        } catch (DataAccessException ex) {
+            log.warn("Falling back to exact ticket count: {}", ex.getMessage());
+            return 0;
         }
+    }
 
-        return spec;
+    private static void writeCsvRow(CsvWriter csv, TicketExportRow ticket) throws IOException {
+        csv.field(ticket.id())
+                .field(ticket.title())
+                .field(ticket.status())
+                .field(ticket.priority())
+                .field(ticket.requesterId())
+                .field(ticket.assigneeId())
+                .field(ticket.createdAt())
+                .field(ticket.updatedAt())
+                .endRow();
     }
 
-    private static String toCsvRow(Ticket ticket) {
-        return new StringBuilder()
-                .append(csvValue(ticket.getId())).append(',')
-                .append(csvValue(ticket.getTitle())).append(',')
-                .append(csvValue(ticket.getStatus())).append(',')
-                .append(csvValue(ticket.getPriority())).append(',')
-                .append(csvValue(ticket.getRequesterId())).append(',')
-                .append(csvValue(ticket.getAssigneeId())).append(',')
-                .append(csvValue(formatDate(ticket.getCreatedAt()))).append(',')
-                .append(csvValue(formatDate(ticket.getUpdatedAt())))
-                .append('\n')
-                .toString();
+    private void publishChange(Ticket ticket) {
+        eventPublisher.publishEvent(TicketChangedEvent.of(ticket));
+    }
+
+    private void publishChanges(List<TicketChangedEvent> changed) {
+        // Listeners only key on team and requester, so one event per scope is enough.
+        Set<List<Long>> scopes = new HashSet<>();
+
+        for (TicketChangedEvent event : changed) {
+            if (scopes.add(Arrays.asList(event.teamId(), event.requesterId()))) {
+                eventPublisher.publishEvent(event);
+            }
+        }
+    }
+
+    private static Set<TicketStatus> transitionSources(AuthPrincipal currentUser, TicketStatus targetStatus) {
+        Set<TicketStatus> sources = EnumSet.noneOf(TicketStatus.class);
+
+        for (TicketStatus sourceStatus : TicketStatus.values()) {
+            if (sourceStatus.canTransitionTo(targetStatus)
+                    && (!currentUser.isRequester() || isRequesterTransitionAllowed(sourceStatus, targetStatus))) {
+                sources.add(sourceStatus);
+            }
+        }
+
+        return sources;
     }
 
     private Ticket findTicketOrThrow(Long ticketId) {
@@ -398,7 +742,7 @@ public class TicketService {
             Long assigneeId,
             OffsetDateTime now
     ) {
-        assertCanMutate(currentUser, ticket);
+        accessGuard.assertCanMutate(currentUser, ticket);
         ensureCanAssign(currentUser);
 
         Long oldAssigneeId = ticket.getAssigneeId();
@@ -410,7 +754,7 @@ public class TicketService {
         ticket.assignTo(assigneeId);
         ticket.touch(now);
 
-        auditLogRepository.save(
+        auditLogWriter.record(
                 TicketAuditLog.assigneeChange(
                         ticket.getId(),
                         oldAssigneeId,
@@ -462,7 +806,7 @@ public class TicketService {
             TicketStatus targetStatus
     ) {
         if (currentUser.isRequester()) {
-            assertCanView(currentUser, ticket);
+            accessGuard.assertCanView(currentUser, ticket);
 
             if (!isRequesterTransitionAllowed(sourceStatus, targetStatus)) {
                 throw new AccessDeniedException("Requester cannot perform this transition");
@@ -471,7 +815,7 @@ public class TicketService {
             return;
         }
 
-        assertCanMutate(currentUser, ticket);
+        accessGuard.assertCanMutate(currentUser, ticket);
     }
 
     private static boolean isRequesterTransitionAllowed(
@@ -483,35 +827,6 @@ public class TicketService {
                 || targetStatus == TicketStatus.IN_PROGRESS);
     }
 
-    private static void assertCanView(AuthPrincipal currentUser, Ticket ticket) {
-        if (currentUser.isAdmin()) {
-            return;
-        }
-
-        if (currentUser.isAgent()) {
-            if (currentUser.teamId() == null
-                    || ticket.getTeamId() == null
-                    || !currentUser.teamId().equals(ticket.getTeamId())) {
-                throw new AccessDeniedException("Agent cannot access tickets outside the team");
-            }
-            return;
-        }
-
-        if (ticket.getRequesterId() == null || !currentUser.userId().equals(ticket.getRequesterId())) {
-            throw new AccessDeniedException("Requester can only access own tickets");
-        }
-    }
-
-    private static void assertCanMutate(AuthPrincipal currentUser, Ticket ticket) {
-        assertCanView(currentUser, ticket);
-
-        if (currentUser.isAdmin() || currentUser.isAgent()) {
-            return;
-        }
-
-        throw new AccessDeniedException("Requester cannot update ticket details");
-    }
-
     private static void ensureCanAssign(AuthPrincipal currentUser) {
         if (!currentUser.isAdmin() && !currentUser.isAgent()) {
             throw new AccessDeniedException("Requester cannot assign tickets");
@@ -547,25 +862,18 @@ public class TicketService {
         return request.getPriority() != null ? request.getPriority() : ticket.getPriority();
     }
 
-    private static String formatDate(OffsetDateTime value) {
-        return value != null ? CSV_DATE_FORMATTER.format(value) : "";
-    }
-
-    private static String csvValue(Object value) {
-        if (value == null) {
-            return "";
+    private static int normalizeCursorPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_CURSOR_PAGE_SIZE;
         }
-
-        String text = String.valueOf(value);
-        String escaped = text.replace("\"", "\"\"");
-        return "\"" + escaped + "\"";
+        return Math.min(size, MAX_CURSOR_PAGE_SIZE);
     }
 
     private static boolean sameValue(Long left, Long right) {
         return left == null ? right == null : left.equals(right);
     }
 
-    private static String safeMessage(RuntimeException ex) {
+    static String safeMessage(RuntimeException ex) {
         return ex.getMessage() != null && !ex.getMessage().isBlank()
                 ? ex.getMessage()
                 : ex.getClass().getSimpleName();
@@ -1,8 +1,10 @@
 package com.pulsedesk.user.domain;
 
+import com.pulsedesk.user.service.UsernameIndexListener;
 import jakarta.persistence.*;
 
 @Entity
+@EntityListeners(UsernameIndexListener.class)
 @Table(
         name = "users",
         indexes = @Index(name = "ix_users_username", columnList = "username", unique = true)
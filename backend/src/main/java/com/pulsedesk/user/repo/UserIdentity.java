@@ -0,0 +1,6 @@
+package com.pulsedesk.user.repo;
+
+public record UserIdentity(
+        Long id,
+        String username
+) {}
@@ -2,7 +2,11 @@ package com.pulsedesk.user.repo;
 
 import com.pulsedesk.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,4 +18,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     boolean existsByUsernameIgnoreCase(String username);
+
+    @Query("select new com.pulsedesk.user.repo.UserIdentity(u.id, u.username) from User u")
+    List<UserIdentity> findAllIdentities();
+
+    /**
+     * Matches on {@code lower(username)} so the lookup can use the functional index;
+     * callers pass names already lower-cased.
+     */
+    @Query("""
+            select new com.pulsedesk.user.repo.UserIdentity(u.id, u.username)
+            from User u
+            where lower(u.username) in :usernames
+            """)
+    List<UserIdentity> findIdentitiesByLowerUsernameIn(@Param("usernames") Collection<String> usernames);
 }
\ No newline at end of file
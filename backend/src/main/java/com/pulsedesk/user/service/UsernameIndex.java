@@ -0,0 +1,109 @@
+package com.pulsedesk.user.service;
+
+import com.pulsedesk.user.domain.User;
+import com.pulsedesk.user.repo.UserIdentity;
+import com.pulsedesk.user.repo.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory, case-insensitive username to user id lookup for resolving {@code @mentions}.
+ * Saved users are added on commit and the index is reloaded periodically; names it does
+ * not know are looked up together in one query.
+ */
+@Slf4j
+@Component
+public class UsernameIndex {
+
+    private final UserRepository userRepository;
+    private volatile Map<String, Long> idsByUsername = new ConcurrentHashMap<>();
+
+    public UsernameIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            // Lookups query the database until the index loads.
+            log.warn("Unable to load username index on startup: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.users.username-index.refresh-interval:PT10M}",
+            initialDelayString = "${app.users.username-index.refresh-interval:PT10M}"
+    )
+    public void refresh() {
+        Map<String, Long> loaded = new ConcurrentHashMap<>();
+
+        for (UserIdentity identity : userRepository.findAllIdentities()) {
+            loaded.put(normalize(identity.username()), identity.id());
+        }
+
+        idsByUsername = loaded;
+    }
+
+    /**
+     * Resolves user ids for the given names, ignoring case, keyed by the lower-cased
+     * name. Unknown names are left out of the result.
+     */
+    public Map<String, Long> resolve(Collection<String> usernames) {
+        Map<String, Long> index = idsByUsername;
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+
+        for (String username : usernames) {
+            String key = normalize(username);
+
+            if (key.isEmpty()) {
+                continue;
+            }
+
+            Long userId = index.get(key);
+
+            if (userId != null) {
+                resolved.put(key, userId);
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (UserIdentity identity : userRepository.findIdentitiesByLowerUsernameIn(misses)) {
+                String key = normalize(identity.username());
+                index.put(key, identity.id());
+                resolved.put(key, identity.id());
+            }
+        }
+
+        return resolved;
+    }
+
+    void put(User user) {
+        if (user.getId() != null && user.getUsername() != null) {
+            idsByUsername.put(normalize(user.getUsername()), user.getId());
+        }
+    }
+
+    void remove(User user) {
+        idsByUsername.values().remove(user.getId());
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+}
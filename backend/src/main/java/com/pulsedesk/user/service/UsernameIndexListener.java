@@ -0,0 +1,53 @@
+package com.pulsedesk.user.service;
+
+import com.pulsedesk.user.domain.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps {@link UsernameIndex} in step with saved users. Changes are applied once the
+ * transaction commits so a rolled-back user never becomes resolvable. The index is looked
+ * up lazily because Hibernate creates this listener while the entity manager factory that
+ * the index's repository depends on is still being built.
+ */
+public class UsernameIndexListener {
+
+    private final ObjectProvider<UsernameIndex> usernameIndex;
+
+    public UsernameIndexListener(ObjectProvider<UsernameIndex> usernameIndex) {
+        this.usernameIndex = usernameIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSaved(User user) {
+        afterCommit(() -> {
+            UsernameIndex index = usernameIndex.getObject();
+            index.remove(user);
+            index.put(user);
+        });
+    }
+
+    @PostRemove
+    void onRemoved(User user) {
+        afterCommit(() -> usernameIndex.getObject().remove(user));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.pulsedesk;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Boots the full context without a reachable database, so bean wiring problems such as
+ * circular references between JPA entity listeners and repositories fail the build even
+ * where the database-backed tests are skipped.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:postgresql://127.0.0.1:1/pulsedesk",
+        "spring.datasource.hikari.initialization-fail-timeout=-1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "spring.liquibase.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+        "spring.jpa.show-sql=false"
+})
+class ApplicationWiringTest {
+
+    @Test
+    void contextLoadsWithoutDatabase() {
+    }
+}
@@ -0,0 +1,58 @@
+package com.pulsedesk.common.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readRecord_shouldParseQuotedFieldsAndTrackLines() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(
+                "a,\"comma, inside\",\"say \"\"hi\"\"\"\r\n\n\"line\nbreak\",,last"
+        ), 64);
+
+        assertThat(csv.readRecord()).containsExactly("a", "comma, inside", "say \"hi\"");
+        assertThat(csv.getRecordLine()).isEqualTo(1);
+
+        assertThat(csv.readRecord()).containsExactly("line\nbreak", "", "last");
+        assertThat(csv.getRecordLine()).isEqualTo(3);
+
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    void readRecord_shouldRoundTripCsvWriterOutputAcrossBufferBoundaries() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvWriter writer = new CsvWriter(output, 64);
+        String longValue = "x".repeat(200) + ",\"" + "y".repeat(200);
+
+        writer.field("first").field(longValue).endRow();
+        writer.field("second").field("").endRow();
+        writer.flush();
+
+        CsvReader csv = new CsvReader(new StringReader(output.toString()), 64);
+
+        assertThat(csv.readRecord()).isEqualTo(List.of("first", longValue));
+        assertThat(csv.readRecord()).isEqualTo(List.of("second", ""));
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    void readRecord_shouldRejectUnterminatedQuote() {
+        CsvReader csv = new CsvReader(new StringReader("ok\n\"never closed,\n"), 64);
+
+        assertThatThrownBy(() -> {
+            csv.readRecord();
+            csv.readRecord();
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 2");
+    }
+}
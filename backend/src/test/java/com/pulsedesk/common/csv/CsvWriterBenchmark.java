@@ -0,0 +1,158 @@
+package com.pulsedesk.common.csv;
+
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketExportRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CsvWriter} with the previous StringBuilder-per-row export encoding.
+ * Run from the test classpath, e.g. {@code java -cp <test classpath> com.pulsedesk.common.csv.CsvWriterBenchmark},
+ * and add {@code -prof gc} to the JMH arguments to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CsvWriterBenchmark {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    @Param("1000000")
+    private int rowCount;
+
+    private TicketExportRow[] rows;
+
+    @Setup(Level.Trial)
+    public void createRows() {
+        OffsetDateTime base = OffsetDateTime.of(2026, 1, 1, 9, 0, 0, 0, ZoneOffset.ofHours(3));
+        TicketStatus[] statuses = TicketStatus.values();
+        TicketPriority[] priorities = TicketPriority.values();
+
+        rows = new TicketExportRow[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new TicketExportRow(
+                    (long) i + 1,
+                    i % 50 == 0 ? "Printer on floor " + i + ", \"urgent\"" : "Cannot log in to portal " + i,
+                    statuses[i % statuses.length],
+                    priorities[i % priorities.length],
+                    1000L + i % 5000,
+                    i % 3 == 0 ? null : 100L + i % 200,
+                    base.plusMinutes(i),
+                    base.plusMinutes(i).plusSeconds(i % 60).plusNanos(i % 7 * 1_000_000L)
+            );
+        }
+    }
+
+    @Benchmark
+    public long stringBuilderRows() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        for (TicketExportRow row : rows) {
+            writer.write(toCsvRow(row));
+        }
+
+        writer.flush();
+        return output.count;
+    }
+
+    @Benchmark
+    public long csvWriterRows() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        CsvWriter csv = new CsvWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        for (TicketExportRow row : rows) {
+            csv.field(row.id())
+                    .field(row.title())
+                    .field(row.status())
+                    .field(row.priority())
+                    .field(row.requesterId())
+                    .field(row.assigneeId())
+                    .field(row.createdAt())
+                    .field(row.updatedAt())
+                    .endRow();
+        }
+
+        csv.flush();
+        return output.count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CsvWriterBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    private static String toCsvRow(TicketExportRow ticket) {
+        return new StringBuilder()
+                .append(csvValue(ticket.id())).append(',')
+                .append(csvValue(ticket.title())).append(',')
+                .append(csvValue(ticket.status())).append(',')
+                .append(csvValue(ticket.priority())).append(',')
+                .append(csvValue(ticket.requesterId())).append(',')
+                .append(csvValue(ticket.assigneeId())).append(',')
+                .append(csvValue(formatDate(ticket.createdAt()))).append(',')
+                .append(csvValue(formatDate(ticket.updatedAt())))
+                .append('\n')
+                .toString();
+    }
+
+    private static String formatDate(OffsetDateTime value) {
+        return value != null ? DATE_FORMATTER.format(value) : "";
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = String.valueOf(value);
+        String escaped = text.replace("\"", "\"\"");
+        return "\"" + escaped + "\"";
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.pulsedesk.common.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    void field_shouldQuoteOnlyValuesThatNeedIt() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvWriter csv = new CsvWriter(output, 64);
+
+        csv.field("plain")
+                .field("comma, inside")
+                .field("say \"hi\"")
+                .field("line\nbreak")
+                .field((String) null)
+                .field(-42L)
+                .field((Long) null)
+                .field(Thread.State.NEW)
+                .endRow();
+        csv.flush();
+
+        assertThat(output.toString())
+                .isEqualTo("plain,\"comma, inside\",\"say \"\"hi\"\"\",\"line\nbreak\",,-42,,NEW\n");
+    }
+
+    @Test
+    void field_shouldFormatTimestampsLikeIsoOffsetDateTime() throws IOException {
+        List<OffsetDateTime> values = List.of(
+                OffsetDateTime.of(2026, 3, 15, 10, 0, 0, 0, ZoneOffset.ofHours(3)),
+                OffsetDateTime.of(2026, 1, 2, 3, 4, 5, 120_000_000, ZoneOffset.UTC),
+                OffsetDateTime.of(999, 12, 31, 23, 59, 59, 1, ZoneOffset.ofHoursMinutesSeconds(-5, -30, -15)),
+                OffsetDateTime.of(12026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)
+        );
+
+        for (OffsetDateTime value : values) {
+            StringWriter output = new StringWriter();
+            CsvWriter csv = new CsvWriter(output, 64);
+
+            csv.field(value).endRow();
+            csv.flush();
+
+            assertThat(output.toString())
+                    .isEqualTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value) + "\n");
+        }
+    }
+
+    @Test
+    void field_shouldSpillLongValuesAcrossBufferFlushes() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvWriter csv = new CsvWriter(output, 64);
+        String longValue = "x".repeat(500);
+
+        csv.field(longValue).field(Long.MAX_VALUE).field(Long.MIN_VALUE).endRow();
+        csv.flush();
+
+        assertThat(output.toString())
+                .isEqualTo(longValue + "," + Long.MAX_VALUE + "," + Long.MIN_VALUE + "\n");
+    }
+}
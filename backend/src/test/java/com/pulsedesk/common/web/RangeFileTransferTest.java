@@ -0,0 +1,78 @@
+package com.pulsedesk.common.web;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RangeFileTransferTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void send_shouldServeWholeFileWithoutRange() throws Exception {
+        Path file = Files.writeString(directory.resolve("export.csv"), "0123456789");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        RangeFileTransfer.send(file, "export.csv", MediaType.TEXT_PLAIN, new MockHttpServletRequest(), response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void send_shouldResumeFromRequestedOffset() throws Exception {
+        Path file = Files.writeString(directory.resolve("export.csv"), "0123456789");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        RangeFileTransfer.send(file, "export.csv", MediaType.TEXT_PLAIN, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 4-9/10");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("456789");
+    }
+
+    @Test
+    void send_shouldRejectRangeBeyondEndOfFile() throws Exception {
+        Path file = Files.writeString(directory.resolve("export.csv"), "0123456789");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        RangeFileTransfer.send(file, "export.csv", MediaType.TEXT_PLAIN, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void send_shouldHandRangeToContainerSendfileWhenSupported() throws Exception {
+        Path file = Files.writeString(directory.resolve("export.csv"), "0123456789");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RangeFileTransfer.SENDFILE_SUPPORT_ATTRIBUTE, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        RangeFileTransfer.send(file, "export.csv", MediaType.TEXT_PLAIN, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(request.getAttribute(RangeFileTransfer.SENDFILE_FILENAME_ATTRIBUTE))
+                .isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(RangeFileTransfer.SENDFILE_START_ATTRIBUTE)).isEqualTo(4L);
+        assertThat(request.getAttribute(RangeFileTransfer.SENDFILE_END_ATTRIBUTE)).isEqualTo(8L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+package com.pulsedesk.dashboard.service;
+
+import com.pulsedesk.dashboard.api.dto.StatusDwellBreakdownResponse;
+import com.pulsedesk.dashboard.api.dto.TimeInStatusResponse;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketRepository;
+import com.pulsedesk.ticket.repository.TicketStatusDwellRepository;
+import com.pulsedesk.ticket.repository.TicketStatusDwellRow;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    private static final OffsetDateTime FROM = OffsetDateTime.parse("2026-03-01T00:00:00Z");
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2026-04-01T00:00:00Z");
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketStatusDwellRepository statusDwellRepository;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @Test
+    void getTimeInStatus_shouldScopeAgentsToTheirTeam() {
+        AuthPrincipal agent = new AuthPrincipal(2L, "agent", UserRole.AGENT, 7L);
+        when(statusDwellRepository.findDwellPercentiles(
+                EnumSet.of(TicketStatus.OPEN, TicketStatus.IN_PROGRESS, TicketStatus.WAITING_CUSTOMER),
+                7L,
+                TicketPriority.HIGH,
+                FROM,
+                TO
+        )).thenReturn(List.of(new TicketStatusDwellRow(
+                TicketStatus.IN_PROGRESS, 7L, TicketPriority.HIGH, 4, 3600.4, 7200.6, 9000
+        )));
+
+        TimeInStatusResponse response = dashboardService.getTimeInStatus(agent, null, TicketPriority.HIGH, FROM, TO);
+
+        assertThat(response.breakdowns()).containsExactly(new StatusDwellBreakdownResponse(
+                TicketStatus.IN_PROGRESS, 7L, TicketPriority.HIGH, 4, 3600, 7201, 9000
+        ));
+    }
+
+    @Test
+    void getTimeInStatus_shouldRejectAgentQueryingAnotherTeam() {
+        AuthPrincipal agent = new AuthPrincipal(2L, "agent", UserRole.AGENT, 7L);
+
+        assertThatThrownBy(() -> dashboardService.getTimeInStatus(agent, 8L, null, FROM, TO))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(statusDwellRepository);
+    }
+
+    @Test
+    void getTimeInStatus_shouldRejectRequesters() {
+        AuthPrincipal requester = new AuthPrincipal(3L, "requester", UserRole.REQUESTER, null);
+
+        assertThatThrownBy(() -> dashboardService.getTimeInStatus(requester, null, null, FROM, TO))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void getTimeInStatus_shouldDefaultToLast30DaysAndValidateRange() {
+        AuthPrincipal admin = new AuthPrincipal(1L, "admin", UserRole.ADMIN, null);
+        when(statusDwellRepository.findDwellPercentiles(any(), eq(null), eq(null), eq(TO.minusDays(30)), eq(TO)))
+                .thenReturn(List.of());
+
+        TimeInStatusResponse response = dashboardService.getTimeInStatus(admin, null, null, null, TO);
+
+        assertThat(response.from()).isEqualTo(TO.minusDays(30));
+        assertThatThrownBy(() -> dashboardService.getTimeInStatus(admin, null, null, TO, FROM))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.pulsedesk.notification.service;
+
+import com.pulsedesk.config.NotificationProperties;
+import com.pulsedesk.ticket.domain.CommentAddedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentNotificationDispatcherTest {
+
+    private static final CommentAddedEvent EVENT = new CommentAddedEvent(
+            11L, 7L, 2L, 3L, 4L, "Looking into it @admin", OffsetDateTime.now()
+    );
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CommentNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        dispatcher = newDispatcher(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void onCommentAdded_shouldDeliverOnWorkerAndRecordLag() {
+        when(notificationService.notifyOnComment(EVENT)).thenReturn(2);
+
+        dispatcher.onCommentAdded(EVENT);
+
+        verify(notificationService, timeout(1000)).notifyOnComment(EVENT);
+        dispatcher.shutdown();
+        assertThat(meterRegistry.get("notifications.comment.fanout.lag").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notifications.comment.recipients").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void deliver_shouldRetryTransientFailures() {
+        when(notificationService.notifyOnComment(EVENT))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"))
+                .thenReturn(1);
+
+        dispatcher.deliver(EVENT);
+
+        verify(notificationService, times(2)).notifyOnComment(EVENT);
+        assertThat(meterRegistry.get("notifications.comment.retries").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notifications.comment.failures").counter().count()).isZero();
+    }
+
+    @Test
+    void deliver_shouldGiveUpAfterMaxAttempts() {
+        when(notificationService.notifyOnComment(EVENT))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"));
+
+        dispatcher.deliver(EVENT);
+
+        verify(notificationService, times(3)).notifyOnComment(EVENT);
+        assertThat(meterRegistry.get("notifications.comment.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deliver_shouldNotRetryWhenCommentNoLongerExists() {
+        when(notificationService.notifyOnComment(EVENT))
+                .thenThrow(new DataIntegrityViolationException("fk_notifications_comment"));
+
+        dispatcher.deliver(EVENT);
+
+        verify(notificationService, times(1)).notifyOnComment(EVENT);
+        assertThat(meterRegistry.get("notifications.comment.retries").counter().count()).isZero();
+    }
+
+    @Test
+    void onCommentAdded_shouldCommitInlineDeliveryInItsOwnTransactionWhenQueueIsFull() throws Exception {
+        dispatcher.shutdown();
+        dispatcher = newDispatcher(1);
+
+        CommentAddedEvent blocking = eventFor(21L);
+        CommentAddedEvent queued = eventFor(22L);
+        CommentAddedEvent inline = eventFor(23L);
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationService.notifyOnComment(blocking)).thenAnswer(invocation -> {
+            workerBusy.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        when(notificationService.notifyOnComment(queued)).thenReturn(1);
+        when(notificationService.notifyOnComment(inline)).thenReturn(1);
+
+        dispatcher.onCommentAdded(blocking);
+        assertThat(workerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.onCommentAdded(queued);
+        dispatcher.onCommentAdded(inline);
+
+        // The inline delivery ran on this thread before onCommentAdded returned, and committed.
+        verify(notificationService).notifyOnComment(inline);
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        verify(transactionManager, times(1)).commit(any(TransactionStatus.class));
+        assertThat(definitions.getAllValues())
+                .extracting(TransactionDefinition::getPropagationBehavior)
+                .containsOnly(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(meterRegistry.get("notifications.comment.inline.deliveries").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        dispatcher.shutdown();
+        verify(transactionManager, times(3)).commit(any(TransactionStatus.class));
+    }
+
+    private CommentNotificationDispatcher newDispatcher(int queueCapacity) {
+        return new CommentNotificationDispatcher(
+                notificationService,
+                transactionManager,
+                new NotificationProperties(1, queueCapacity, 3, Duration.ofMillis(1)),
+                meterRegistry
+        );
+    }
+
+    private static CommentAddedEvent eventFor(Long commentId) {
+        return new CommentAddedEvent(commentId, 7L, 2L, 3L, null, "Update", OffsetDateTime.now());
+    }
+}
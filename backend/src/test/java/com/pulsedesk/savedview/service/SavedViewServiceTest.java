@@ -6,11 +6,19 @@ import com.pulsedesk.savedview.api.dto.SavedViewResponse;
 import com.pulsedesk.savedview.domain.SavedView;
 import com.pulsedesk.savedview.repository.SavedViewRepository;
 import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import com.pulsedesk.ticket.service.TicketService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -29,6 +37,9 @@ class SavedViewServiceTest {
     @Mock
     private SavedViewRepository savedViewRepository;
 
+    @Mock
+    private TicketService ticketService;
+
     @Mock
     private AuthPrincipal currentUser;
 
@@ -38,7 +49,9 @@ class SavedViewServiceTest {
     void setUp() {
         savedViewService = new SavedViewService(
                 savedViewRepository,
-                new ObjectMapper()
+                new ObjectMapper(),
+                ticketService,
+                new SavedViewPlanCache()
         );
     }
 
@@ -163,4 +176,53 @@ class SavedViewServiceTest {
 
         verify(savedViewRepository, never()).findByIdAndOwnerId(any(Long.class), any(Long.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void listSavedViewTickets_shouldCompilePlanOnceAndApplyViewSort() {
+        SavedView savedView = new SavedView(
+                1L,
+                "Open High Priority",
+                "{\"status\":\"OPEN\",\"priority\":\"HIGH\",\"sort\":\"updatedAt,asc\"}",
+                OffsetDateTime.parse("2026-03-15T23:00:00Z")
+        );
+        ReflectionTestUtils.setField(savedView, "id", 5L);
+
+        TicketSearchCriteria criteria = TicketSearchCriteria.builder()
+                .status(TicketStatus.OPEN)
+                .priority(TicketPriority.HIGH)
+                .teamId(3L)
+                .build();
+        Pageable viewPageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "updatedAt"));
+
+        when(currentUser.userId()).thenReturn(1L);
+        when(savedViewRepository.findById(5L)).thenReturn(Optional.of(savedView));
+        when(ticketService.resolveSearchCriteria(
+                currentUser, TicketStatus.OPEN, TicketPriority.HIGH, null, null, null, null, null
+        )).thenReturn(criteria);
+        when(ticketService.listTickets(criteria, viewPageable)).thenReturn(Page.empty(viewPageable));
+
+        savedViewService.listSavedViewTickets(currentUser, 5L, PageRequest.of(0, 20));
+        savedViewService.listSavedViewTickets(currentUser, 5L, PageRequest.of(0, 20));
+
+        verify(savedViewRepository, times(1)).findById(5L);
+        verify(ticketService, times(2)).listTickets(criteria, viewPageable);
+    }
+
+    @Test
+    void listSavedViewTickets_shouldRejectViewOwnedByAnotherUser() {
+        SavedView savedView = new SavedView(
+                2L,
+                "Someone else's view",
+                "{\"status\":\"OPEN\"}",
+                OffsetDateTime.parse("2026-03-15T23:00:00Z")
+        );
+
+        when(currentUser.userId()).thenReturn(1L);
+        when(savedViewRepository.findById(5L)).thenReturn(Optional.of(savedView));
+
+        assertThatThrownBy(() -> savedViewService.listSavedViewTickets(currentUser, 5L, PageRequest.of(0, 20)))
+                .isInstanceOf(AccessDeniedException.class);
+
+        verify(ticketService, never()).listTickets(any(TicketSearchCriteria.class), any(Pageable.class));
+    }
+}
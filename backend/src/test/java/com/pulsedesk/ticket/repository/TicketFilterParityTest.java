@@ -0,0 +1,157 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same criteria through {@link TicketSpecifications#matching} and
+ * {@link TicketSqlFilter} and asserts both select the same tickets, so the JPA listing
+ * and the native facet, count and bulk queries cannot drift apart.
+ * Runs only when PULSEDESK_TEST_DB_URL points at a disposable database
+ * (PULSEDESK_TEST_DB_USER / PULSEDESK_TEST_DB_PASS default to pulsedesk).
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "PULSEDESK_TEST_DB_URL", matches = ".+")
+class TicketFilterParityTest {
+
+    private static final Long TEAM_ID = 904_001L;
+    private static final Long OTHER_TEAM_ID = 904_002L;
+    private static final Long REQUESTER_ID = 904_101L;
+    private static final Long OTHER_REQUESTER_ID = 904_102L;
+    private static final Long ASSIGNEE_ID = 904_201L;
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2021, 3, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final Set<Long> fixtureIds = new HashSet<>();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PULSEDESK_TEST_DB_URL"));
+        registry.add("spring.datasource.username", () -> envOrDefault("PULSEDESK_TEST_DB_USER", "pulsedesk"));
+        registry.add("spring.datasource.password", () -> envOrDefault("PULSEDESK_TEST_DB_PASS", "pulsedesk"));
+        registry.add("spring.liquibase.contexts", () -> "test");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @BeforeEach
+    void seedFixture() {
+        seed("Printer offline on floor two", "The office printer stopped responding",
+                TicketPriority.HIGH, REQUESTER_ID, TEAM_ID, TicketStatus.OPEN, ASSIGNEE_ID, 0);
+        seed("VPN reset requested", "Cannot reach the load balancer after the VPN reset",
+                TicketPriority.MEDIUM, REQUESTER_ID, TEAM_ID, TicketStatus.IN_PROGRESS, ASSIGNEE_ID, 1);
+        seed("Dashboard export fails", "Exporting the dashboard filters times out",
+                TicketPriority.LOW, OTHER_REQUESTER_ID, TEAM_ID, TicketStatus.OPEN, null, 2);
+        seed("Printer toner empty", "Replace toner in the printer by reception",
+                TicketPriority.MEDIUM, OTHER_REQUESTER_ID, OTHER_TEAM_ID, TicketStatus.RESOLVED, null, 3);
+        seed("Password expired", "User cannot log in after password expiry",
+                TicketPriority.HIGH, REQUESTER_ID, OTHER_TEAM_ID, TicketStatus.CLOSED, ASSIGNEE_ID, 4);
+    }
+
+    @Test
+    void structuredFilters_shouldSelectSameTicketsInBothPaths() {
+        assertSameTickets(TicketSearchCriteria.builder().build());
+        assertSameTickets(TicketSearchCriteria.builder().status(TicketStatus.OPEN).build());
+        assertSameTickets(TicketSearchCriteria.builder().priority(TicketPriority.MEDIUM).build());
+        assertSameTickets(TicketSearchCriteria.builder().assigneeId(ASSIGNEE_ID).build());
+        assertSameTickets(TicketSearchCriteria.builder().teamId(TEAM_ID).build());
+        assertSameTickets(TicketSearchCriteria.builder().requesterId(REQUESTER_ID).build());
+        assertSameTickets(TicketSearchCriteria.builder()
+                .teamId(TEAM_ID)
+                .status(TicketStatus.OPEN)
+                .priority(TicketPriority.LOW)
+                .build());
+    }
+
+    @Test
+    void createdRange_shouldSelectSameTicketsInBothPaths() {
+        assertSameTickets(TicketSearchCriteria.builder().createdFrom(BASE_TIME.plusDays(1)).build());
+        assertSameTickets(TicketSearchCriteria.builder().createdTo(BASE_TIME.plusDays(2)).build());
+        assertSameTickets(TicketSearchCriteria.builder()
+                .createdFrom(BASE_TIME.plusDays(1))
+                .createdTo(BASE_TIME.plusDays(3))
+                .build());
+    }
+
+    @Test
+    void textSearch_shouldSelectSameTicketsInBothPaths() {
+        assertSameTickets(TicketSearchCriteria.builder().query("printer").build());
+        assertSameTickets(TicketSearchCriteria.builder().query("printr").build());
+        assertSameTickets(TicketSearchCriteria.builder().query("dash").build());
+        assertSameTickets(TicketSearchCriteria.builder().query("\"load balancer\"").build());
+        assertSameTickets(TicketSearchCriteria.builder().query("export*").build());
+        assertSameTickets(TicketSearchCriteria.builder().query("printer").teamId(TEAM_ID).build());
+        assertSameTickets(TicketSearchCriteria.builder().query("&|!").status(TicketStatus.OPEN).build());
+    }
+
+    private void assertSameTickets(TicketSearchCriteria criteria) {
+        Set<Long> viaSpecification = ticketRepository.findAll(TicketSpecifications.matching(criteria)).stream()
+                .map(Ticket::getId)
+                .filter(fixtureIds::contains)
+                .collect(Collectors.toSet());
+
+        TicketSqlFilter filter = TicketSqlFilter.from(criteria, "t");
+        List<Long> nativeIds = jdbcTemplate.queryForList(
+                "select t.id from tickets t where " + filter.whereClause(),
+                filter.parameters(),
+                Long.class
+        );
+        Set<Long> viaSql = nativeIds.stream()
+                .filter(fixtureIds::contains)
+                .collect(Collectors.toSet());
+
+        assertThat(viaSpecification).as("fixture matches for %s", criteria).isNotEmpty();
+        assertThat(viaSql).as("native filter for %s", criteria).isEqualTo(viaSpecification);
+    }
+
+    private void seed(
+            String title,
+            String description,
+            TicketPriority priority,
+            Long requesterId,
+            Long teamId,
+            TicketStatus status,
+            Long assigneeId,
+            int createdDay
+    ) {
+        OffsetDateTime createdAt = BASE_TIME.plusDays(createdDay);
+        Ticket ticket = new Ticket(title, description, priority, requesterId, teamId);
+        ticket.initializeTimestamps(createdAt);
+        ticket.changeStatus(status, createdAt);
+
+        if (assigneeId != null) {
+            ticket.assignTo(assigneeId);
+        }
+
+        fixtureIds.add(ticketRepository.saveAndFlush(ticket).getId());
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
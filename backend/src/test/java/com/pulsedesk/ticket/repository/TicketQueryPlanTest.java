@@ -0,0 +1,339 @@
+package com.pulsedesk.ticket.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulsedesk.common.pagination.SeekCursor;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.service.TicketFacetService;
+import com.pulsedesk.ticket.service.TicketService;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds a large ticket set into a local Postgres and asserts via EXPLAIN that the
+ * list and dashboard query shapes are served by indexes.
+ * Runs only when PULSEDESK_TEST_DB_URL points at a disposable database
+ * (PULSEDESK_TEST_DB_USER / PULSEDESK_TEST_DB_PASS default to pulsedesk).
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "PULSEDESK_TEST_DB_URL", matches = ".+")
+@Import(TicketQueryPlanTest.StatementCaptureConfig.class)
+class TicketQueryPlanTest {
+
+    private static final int SEED_TICKETS = 200_000;
+
+    private static final String SEED_SQL = """
+        insert into tickets (
+            title, description, status, priority, requester_id, assignee_id,
+            team_id, created_at, updated_at, resolved_at
+        )
+        select
+            'Seeded ticket ' || g,
+            'Seeded description for ticket ' || g,
+            s.status,
+            case when g % 10 = 0 then 'HIGH' when g % 2 = 0 then 'MEDIUM' else 'LOW' end,
+            1000 + (g % 5000),
+            case when g % 3 = 0 then null else 100 + (g % 200) end,
+            1 + (g % 50),
+            now() - g * interval '5 minutes',
+            now() - g * interval '5 minutes',
+            case when s.status in ('RESOLVED', 'CLOSED')
+                 then now() - g * interval '5 minutes' + interval '1 day' end
+        from generate_series(1, ?) g
+        cross join lateral (
+            select (array['CLOSED', 'CLOSED', 'CLOSED', 'CLOSED', 'CLOSED', 'CLOSED',
+                          'RESOLVED', 'IN_PROGRESS', 'WAITING_CUSTOMER', 'OPEN'])[1 + (g % 10)] as status
+        ) s
+    """;
+
+    private static final AuthPrincipal ADMIN =
+            new AuthPrincipal(1L, "admin", UserRole.ADMIN, null);
+    private static final AuthPrincipal AGENT =
+            new AuthPrincipal(2L, "agent", UserRole.AGENT, 7L);
+    private static final AuthPrincipal REQUESTER =
+            new AuthPrincipal(1234L, "requester", UserRole.REQUESTER, null);
+    private static final Pageable FIRST_PAGE =
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketFacetService ticketFacetService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PULSEDESK_TEST_DB_URL"));
+        registry.add("spring.datasource.username", () -> envOrDefault("PULSEDESK_TEST_DB_USER", "pulsedesk"));
+        registry.add("spring.datasource.password", () -> envOrDefault("PULSEDESK_TEST_DB_PASS", "pulsedesk"));
+        registry.add("spring.liquibase.contexts", () -> "test");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @BeforeAll
+    void seedLargeDataset() {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from tickets", Long.class);
+
+        if (existing == null || existing < SEED_TICKETS) {
+            jdbcTemplate.update(SEED_SQL, SEED_TICKETS);
+        }
+
+        jdbcTemplate.execute("vacuum analyze tickets");
+        jdbcTemplate.execute("vacuum analyze ticket_search_documents");
+    }
+
+    @Test
+    void agentTeamListing_shouldUseTeamIndex() {
+        assertIndexedPlans("agent team listing", () -> ticketService.listTickets(
+                AGENT, null, null, null, null, null, null, null, FIRST_PAGE
+        ));
+    }
+
+    @Test
+    void agentTeamStatusListing_shouldUseTeamStatusIndex() {
+        assertIndexedPlans("agent team + status listing", () -> ticketService.listTickets(
+                AGENT, TicketStatus.OPEN, null, null, null, null, null, null, FIRST_PAGE
+        ));
+    }
+
+    @Test
+    void requesterListing_shouldUseRequesterIndex() {
+        assertIndexedPlans("requester listing", () -> ticketService.listTickets(
+                REQUESTER, null, null, null, null, null, null, null, FIRST_PAGE
+        ));
+    }
+
+    @Test
+    void assigneeListing_shouldUseAssigneeIndex() {
+        assertIndexedPlans("admin assignee listing", () -> ticketService.listTickets(
+                ADMIN, null, null, 150L, null, null, null, null, FIRST_PAGE
+        ));
+    }
+
+    @Test
+    void cursorListing_shouldSeekOnCreatedAtIndex() {
+        String cursor = SeekCursor.after(OffsetDateTime.now().minusDays(30), Long.MAX_VALUE).encode();
+
+        assertIndexedPlans("admin cursor listing", () -> ticketService.listTicketsByCursor(
+                ADMIN, null, null, null, null, null, null, null, cursor, 20
+        ));
+    }
+
+    @Test
+    void textSearch_shouldUseSearchIndexes() {
+        assertIndexedPlans("admin text search", () -> ticketService.listTickets(
+                ADMIN, null, null, null, null, "4242", null, null, PageRequest.of(0, 20)
+        ));
+    }
+
+    @Test
+    void teamFacets_shouldUseTeamIndex() {
+        assertIndexedPlans("agent team facets", () -> ticketFacetService.getFacets(
+                AGENT, null, null, null, null, null, null, null
+        ));
+    }
+
+    @Test
+    void dashboardQueries_shouldUseIndexes() {
+        assertIndexedPlans("dashboard rare status count", () -> ticketRepository.countByStatus(TicketStatus.OPEN));
+        assertIndexedPlans("dashboard rare priority count", () -> ticketRepository.countByPriority(TicketPriority.HIGH));
+        assertIndexedPlans("dashboard average resolution", ticketRepository::calculateAverageResolutionHours);
+        assertIndexedPlans("dashboard last 7 days", ticketRepository::countCreatedTicketsLast7DaysRaw);
+    }
+
+    private void assertIndexedPlans(String shape, Runnable action) {
+        List<CapturedStatement> statements = StatementCapture.capture(action);
+
+        assertThat(statements).as(shape).isNotEmpty();
+
+        for (CapturedStatement statement : statements) {
+            JsonNode plan = explain(statement);
+            List<String> sequentialScans = new ArrayList<>();
+            collectSequentialScans(plan.get(0).get("Plan"), sequentialScans);
+
+            assertThat(sequentialScans)
+                    .as("%s should not seq scan tickets:%n%s%n%s", shape, statement.sql(), plan.toPrettyString())
+                    .doesNotContain("tickets", "ticket_search_documents");
+        }
+    }
+
+    private JsonNode explain(CapturedStatement statement) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("explain (format json) " + statement.sql())) {
+
+            for (Binding binding : statement.bindings()) {
+                binding.method().invoke(explain, binding.args());
+            }
+
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                return objectMapper.readTree(resultSet.getString(1));
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException("EXPLAIN failed for: " + statement.sql(), ex);
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, relations);
+        }
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    record Binding(Method method, Object[] args) {
+    }
+
+    record CapturedStatement(String sql, List<Binding> bindings) {
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof StatementCapture)
+                            ? new StatementCapture(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    static class StatementCapture extends DelegatingDataSource {
+
+        private static final List<CapturedStatement> CAPTURED = new ArrayList<>();
+        private static volatile boolean capturing;
+
+        StatementCapture(DataSource target) {
+            super(target);
+        }
+
+        static synchronized List<CapturedStatement> capture(Runnable action) {
+            CAPTURED.clear();
+            capturing = true;
+
+            try {
+                action.run();
+            } finally {
+                capturing = false;
+            }
+
+            return List.copyOf(CAPTURED);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        private static Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    StatementCapture.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+
+                        if (capturing
+                                && "prepareStatement".equals(method.getName())
+                                && result instanceof PreparedStatement statement) {
+                            return record((String) args[0], statement);
+                        }
+
+                        return result;
+                    }
+            );
+        }
+
+        private static PreparedStatement record(String sql, PreparedStatement statement) {
+            List<Binding> bindings = new ArrayList<>();
+
+            synchronized (CAPTURED) {
+                CAPTURED.add(new CapturedStatement(sql, bindings));
+            }
+
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    StatementCapture.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("set")
+                                && args != null
+                                && args.length >= 2
+                                && args[0] instanceof Integer) {
+                            bindings.add(new Binding(method, args.clone()));
+                        }
+
+                        return invoke(statement, method, args);
+                    }
+            );
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.pulsedesk.ticket.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TicketSearchQueryTest {
+
+    @Test
+    void parse_shouldReturnNullForBlankOrSymbolOnlyInput() {
+        assertThat(TicketSearchQuery.parse(null)).isNull();
+        assertThat(TicketSearchQuery.parse("   ")).isNull();
+        assertThat(TicketSearchQuery.parse("&|!:*")).isNull();
+    }
+
+    @Test
+    void parse_shouldTreatLastBareWordAsPrefix() {
+        TicketSearchQuery search = TicketSearchQuery.parse("Dashboard filt");
+
+        assertThat(search.tsQuery()).isEqualTo("dashboard & filt:*");
+        assertThat(search.text()).isEqualTo("dashboard filt");
+    }
+
+    @Test
+    void parse_shouldBuildPhraseAndExplicitPrefixTerms() {
+        TicketSearchQuery search = TicketSearchQuery.parse("\"load balancer\" export*");
+
+        assertThat(search.tsQuery()).isEqualTo("(load <-> balancer) & export:*");
+        assertThat(search.text()).isEqualTo("load balancer export");
+    }
+
+    @Test
+    void parse_shouldStripTsQueryOperatorsFromUserInput() {
+        TicketSearchQuery search = TicketSearchQuery.parse("vpn' | !(reset) \"");
+
+        assertThat(search.tsQuery()).isEqualTo("vpn & reset:*");
+        assertThat(search.text()).isEqualTo("vpn reset");
+    }
+}
@@ -0,0 +1,226 @@
+package com.pulsedesk.ticket.repository;
+
+import com.pulsedesk.notification.domain.Notification;
+import com.pulsedesk.notification.domain.NotificationType;
+import com.pulsedesk.notification.repository.NotificationRepository;
+import com.pulsedesk.notification.repository.NotificationRow;
+import com.pulsedesk.ticket.domain.Comment;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketAuditLog;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that audit and notification inserts reach the database in batches and logs
+ * their rows/s next to a row-by-row baseline (one flushed entity insert per row) for
+ * the before/after comparison. Timing is not asserted. Runs only when
+ * PULSEDESK_TEST_DB_URL points at a disposable database; every run is rolled back.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "PULSEDESK_TEST_DB_URL", matches = ".+")
+class WriteBatchingThroughputTest {
+
+    private static final int ROWS = 5_000;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    // One prepared statement per insert batch plus one per sequence block, with slack for the fixture.
+    private static final long MAX_STATEMENTS =
+            Math.ceilDiv(ROWS, JDBC_BATCH_SIZE) + Math.ceilDiv(ROWS, SEQUENCE_ALLOCATION_SIZE) + 5;
+
+    @Autowired
+    private TicketAuditLogRepository auditLogRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PULSEDESK_TEST_DB_URL"));
+        registry.add("spring.datasource.username", () -> envOrDefault("PULSEDESK_TEST_DB_USER", "pulsedesk"));
+        registry.add("spring.datasource.password", () -> envOrDefault("PULSEDESK_TEST_DB_PASS", "pulsedesk"));
+        registry.add("spring.liquibase.contexts", () -> "test");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.jdbc.batch_size", () -> JDBC_BATCH_SIZE);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Test
+    void auditLogInserts_shouldBeWrittenInJdbcBatches() {
+        String countSql = "select count(*) from ticket_audit_logs where ticket_id = ?";
+
+        Result baseline = measure(fixture -> {
+            for (TicketAuditLog auditLog : auditLogs(fixture)) {
+                auditLogRepository.save(auditLog);
+                entityManager.flush();
+            }
+        }, countSql);
+        Result batched = measure(fixture -> {
+            auditLogRepository.saveAll(auditLogs(fixture));
+            entityManager.flush();
+        }, countSql);
+        logComparison("audit logs (entity saveAll)", baseline, batched);
+
+        assertThat(batched.insertedRows()).isEqualTo(ROWS);
+        assertThat(batched.entityInserts()).isEqualTo(ROWS);
+        assertThat(batched.preparedStatements()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void auditLogWriterInserts_shouldBypassEntityInserts() {
+        String countSql = "select count(*) from ticket_audit_logs where ticket_id = ?";
+
+        Result baseline = measure(fixture -> {
+            for (TicketAuditLog auditLog : auditLogs(fixture)) {
+                auditLogRepository.save(auditLog);
+                entityManager.flush();
+            }
+        }, countSql);
+        Result batched = measure(fixture -> auditLogRepository.insertAll(auditLogs(fixture)), countSql);
+        logComparison("audit logs (writer insertAll)", baseline, batched);
+
+        assertThat(batched.insertedRows()).isEqualTo(ROWS);
+        assertThat(batched.entityInserts()).isZero();
+    }
+
+    @Test
+    void notificationInserts_shouldBypassEntityInserts() {
+        String countSql = "select count(*) from notifications where ticket_id = ?";
+
+        Result baseline = measure(fixture -> {
+            for (int i = 0; i < ROWS; i++) {
+                notificationRepository.save(new Notification(
+                        recipient(i),
+                        fixture.ticket(),
+                        fixture.comment(),
+                        NotificationType.COMMENT_ADDED,
+                        message(fixture)
+                ));
+                entityManager.flush();
+            }
+        }, countSql);
+        Result batched = measure(fixture -> {
+            List<NotificationRow> notifications = new ArrayList<>(ROWS);
+
+            for (int i = 0; i < ROWS; i++) {
+                notifications.add(new NotificationRow(
+                        recipient(i),
+                        fixture.ticket().getId(),
+                        fixture.comment().getId(),
+                        NotificationType.COMMENT_ADDED,
+                        message(fixture),
+                        OffsetDateTime.now()
+                ));
+            }
+
+            notificationRepository.insertAll(notifications);
+        }, countSql);
+        logComparison("notifications (dispatcher insertAll)", baseline, batched);
+
+        assertThat(batched.insertedRows()).isEqualTo(ROWS);
+        assertThat(batched.entityInserts()).isZero();
+    }
+
+    private static List<TicketAuditLog> auditLogs(Fixture fixture) {
+        List<TicketAuditLog> auditLogs = new ArrayList<>(ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            auditLogs.add(TicketAuditLog.statusChange(
+                    fixture.ticket().getId(),
+                    TicketStatus.OPEN,
+                    TicketStatus.IN_PROGRESS,
+                    1L
+            ));
+        }
+
+        return auditLogs;
+    }
+
+    private static long recipient(int row) {
+        return 1L + row % 100;
+    }
+
+    private static String message(Fixture fixture) {
+        return "New comment on Ticket #" + fixture.ticket().getId();
+    }
+
+    private static void logComparison(String label, Result baseline, Result batched) {
+        log.info("{}: {} rows, row by row {} rows/s, batched {} rows/s",
+                label, ROWS, baseline.rowsPerSecond(), batched.rowsPerSecond());
+    }
+
+    private Result measure(Consumer<Fixture> writes, String countByTicketSql) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return transactionTemplate.execute(status -> {
+            Ticket ticket = new Ticket("Throughput fixture", "Throughput fixture", TicketPriority.LOW, 1L, 1L);
+            ticket.initializeTimestamps(OffsetDateTime.now());
+            entityManager.persist(ticket);
+
+            Comment comment = new Comment(ticket, 1L, "Throughput fixture");
+            entityManager.persist(comment);
+            entityManager.flush();
+
+            statistics.clear();
+            long started = System.nanoTime();
+            writes.accept(new Fixture(ticket, comment));
+            long elapsed = System.nanoTime() - started;
+
+            long preparedStatements = statistics.getPrepareStatementCount();
+            long entityInserts = statistics.getEntityInsertCount();
+            Long insertedRows = jdbcTemplate.queryForObject(countByTicketSql, Long.class, ticket.getId());
+
+            status.setRollbackOnly();
+            return new Result(
+                    preparedStatements,
+                    entityInserts,
+                    insertedRows == null ? 0 : insertedRows,
+                    Math.round(ROWS / (elapsed / 1_000_000_000.0))
+            );
+        });
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private record Fixture(Ticket ticket, Comment comment) {
+    }
+
+    private record Result(long preparedStatements, long entityInserts, long insertedRows, long rowsPerSecond) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.CommentCreateRequest;
+import com.pulsedesk.ticket.domain.Comment;
+import com.pulsedesk.ticket.domain.CommentAddedEvent;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketChangedEvent;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.repository.CommentRepository;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    private static final Long TICKET_ID = 7L;
+
+    private final AuthPrincipal agent = new AuthPrincipal(2L, "agent", UserRole.AGENT, 3L);
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TicketAccessGuard accessGuard;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    @Test
+    void addComment_shouldPublishTicketChangeSoCachedSearchPagesAreEvicted() {
+        Ticket ticket = new Ticket("Printer", "Printer is offline", TicketPriority.MEDIUM, 10L, 3L);
+        ReflectionTestUtils.setField(ticket, "id", TICKET_ID);
+
+        when(accessGuard.requireVisibleForChange(agent, TICKET_ID)).thenReturn(ticket);
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        commentService.addComment(agent, TICKET_ID, new CommentCreateRequest("Toner replaced"));
+
+        verify(eventPublisher).publishEvent(isA(CommentAddedEvent.class));
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(TICKET_ID, 3L, 10L));
+    }
+}
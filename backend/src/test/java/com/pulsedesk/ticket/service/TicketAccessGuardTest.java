@@ -0,0 +1,92 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.exception.TicketNotFoundException;
+import com.pulsedesk.ticket.repository.TicketRepository;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketAccessGuardTest {
+
+    private static final Long TICKET_ID = 7L;
+
+    private final AuthPrincipal agent = new AuthPrincipal(2L, "agent", UserRole.AGENT, 1L);
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private TicketAccessGuard accessGuard;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void requireVisible_shouldLoadWithScopedQueryAndMemoizeWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Ticket ticket = new Ticket("Printer", "Printer is offline", TicketPriority.MEDIUM, 10L, 1L);
+        when(ticketRepository.findOne(any(Specification.class))).thenReturn(Optional.of(ticket));
+
+        assertThat(accessGuard.requireVisible(agent, TICKET_ID)).isSameAs(ticket);
+        assertThat(accessGuard.requireVisible(agent, TICKET_ID)).isSameAs(ticket);
+
+        verify(ticketRepository, times(1)).findOne(any(Specification.class));
+        verify(ticketRepository, never()).findById(any());
+    }
+
+    @Test
+    void requireVisible_shouldNotMemoizeOutsideRequest() {
+        Ticket ticket = new Ticket("Printer", "Printer is offline", TicketPriority.MEDIUM, 10L, 1L);
+        when(ticketRepository.findOne(any(Specification.class))).thenReturn(Optional.of(ticket));
+
+        accessGuard.requireVisible(agent, TICKET_ID);
+        accessGuard.requireVisible(agent, TICKET_ID);
+
+        verify(ticketRepository, times(2)).findOne(any(Specification.class));
+    }
+
+    @Test
+    void requireVisible_shouldRejectTicketOfAnotherTeam() {
+        Ticket ticket = new Ticket("Printer", "Printer is offline", TicketPriority.MEDIUM, 10L, 5L);
+        when(ticketRepository.findOne(any(Specification.class))).thenReturn(Optional.empty());
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.of(ticket));
+
+        assertThatThrownBy(() -> accessGuard.requireVisible(agent, TICKET_ID))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage("Agent cannot access tickets outside the team");
+    }
+
+    @Test
+    void requireVisible_shouldReportMissingTicketAsNotFound() {
+        when(ticketRepository.findOne(any(Specification.class))).thenReturn(Optional.empty());
+        when(ticketRepository.findById(TICKET_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accessGuard.requireVisible(agent, TICKET_ID))
+                .isInstanceOf(TicketNotFoundException.class);
+    }
+}
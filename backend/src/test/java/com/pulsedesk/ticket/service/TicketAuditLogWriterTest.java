@@ -0,0 +1,176 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketAuditProperties;
+import com.pulsedesk.ticket.domain.TicketAuditLog;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketAuditLogRepository;
+import com.pulsedesk.ticket.repository.TicketStatusDwellRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketAuditLogWriterTest {
+
+    @Mock
+    private TicketAuditLogRepository auditLogRepository;
+
+    @Mock
+    private TicketStatusDwellRepository statusDwellRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<TicketAuditLog> written = new CopyOnWriteArrayList<>();
+    private TicketAuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        writer.shutdown();
+    }
+
+    @Test
+    void record_shouldQueueOnlyAfterCommitAndFlushInBackground() throws Exception {
+        CountDownLatch flushed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            written.addAll(invocation.getArgument(0));
+            flushed.countDown();
+            return null;
+        }).when(auditLogRepository).insertAll(anyList());
+
+        writer = newWriter(10);
+        TicketAuditLog committed = statusChange(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        writer.record(statusChange(2L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        writer.record(committed);
+        assertThat(meterRegistry.get("tickets.audit.queue.depth").gauge().value()).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(written).containsExactly(committed);
+        verify(statusDwellRepository, timeout(5000)).recordStatusChanges(anyList());
+
+        writer.shutdown();
+        assertThat(meterRegistry.get("tickets.audit.flush").timer().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void record_shouldWriteInlineWhenQueueIsFullAndDrainOnShutdown() throws Exception {
+        CountDownLatch flusherBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals("ticket-audit-flusher") && flusherBlocked.getCount() > 0) {
+                flusherBlocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            written.addAll(invocation.getArgument(0));
+            return null;
+        }).when(auditLogRepository).insertAll(anyList());
+
+        writer = newWriter(1);
+        TicketAuditLog first = statusChange(1L);
+        TicketAuditLog queued = statusChange(2L);
+        TicketAuditLog overflow = statusChange(3L);
+
+        writer.record(first);
+        assertThat(flusherBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        writer.record(queued);
+        writer.record(overflow);
+
+        assertThat(written).containsExactly(overflow);
+        assertThat(meterRegistry.get("tickets.audit.inline.writes").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        writer.shutdown();
+
+        assertThat(written).containsExactlyInAnyOrder(first, queued, overflow);
+    }
+
+    @Test
+    void flusher_shouldIsolateAndDropRowTheDatabaseKeepsRejecting() throws Exception {
+        TicketAuditLog good = statusChange(1L);
+        TicketAuditLog bad = statusChange(2L);
+        TicketAuditLog alsoGood = statusChange(3L);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<TicketAuditLog> batch = invocation.getArgument(0);
+            if (blocked.getCount() > 0) {
+                blocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (batch.contains(bad)) {
+                throw new DataIntegrityViolationException("fk_ticket_audit_logs_ticket");
+            }
+            written.addAll(batch);
+            return null;
+        }).when(auditLogRepository).insertAll(anyList());
+
+        writer = newWriter(10);
+        writer.record(statusChange(4L));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.recordAll(List.of(good, bad, alsoGood));
+        release.countDown();
+
+        verify(statusDwellRepository, timeout(5000).times(3)).recordStatusChanges(anyList());
+        writer.shutdown();
+
+        assertThat(written).contains(good, alsoGood).doesNotContain(bad);
+        assertThat(meterRegistry.get("tickets.audit.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("tickets.audit.flush.failures").counter().count()).isGreaterThanOrEqualTo(3);
+    }
+
+    private TicketAuditLogWriter newWriter(int queueCapacity) {
+        return new TicketAuditLogWriter(
+                auditLogRepository,
+                statusDwellRepository,
+                transactionManager,
+                new TicketAuditProperties(queueCapacity, 100, Duration.ofMillis(10), Duration.ofMillis(10), 3, 0, null),
+                meterRegistry
+        );
+    }
+
+    private static TicketAuditLog statusChange(Long ticketId) {
+        return TicketAuditLog.statusChange(ticketId, TicketStatus.OPEN, TicketStatus.IN_PROGRESS, 1L);
+    }
+}
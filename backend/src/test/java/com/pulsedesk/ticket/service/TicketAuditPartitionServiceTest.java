@@ -0,0 +1,120 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketAuditProperties;
+import com.pulsedesk.ticket.repository.TicketAuditPartition;
+import com.pulsedesk.ticket.repository.TicketAuditPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketAuditPartitionServiceTest {
+
+    private static final YearMonth CURRENT_MONTH = YearMonth.of(2026, 10);
+
+    @Mock
+    private TicketAuditPartitionRepository partitionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path archiveDirectory;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(partitionRepository.tryMaintenanceLock()).thenReturn(true);
+    }
+
+    @Test
+    void maintainPartitions_shouldCreateFuturePartitionsAndArchiveExpiredOnes() throws Exception {
+        TicketAuditPartition expired = partition(2025, 9);
+        TicketAuditPartition retained = partition(2025, 10);
+        when(partitionRepository.findPartitions()).thenReturn(List.of(expired, retained));
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id,ticket_id\n1,7\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(partitionRepository).copyOut(eq(expired), any());
+
+        newService(12).maintainPartitions(CURRENT_MONTH);
+
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 10));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 11));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 12));
+        verify(partitionRepository).dropPartition(expired);
+        verify(partitionRepository, never()).dropPartition(retained);
+
+        Path archive = archiveDirectory.resolve("ticket_audit_logs_p202509.csv.gz");
+        try (GZIPInputStream input = new GZIPInputStream(Files.newInputStream(archive))) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id,ticket_id\n1,7\n");
+        }
+        assertThat(archiveDirectory.resolve("ticket_audit_logs_p202509.csv.gz.part")).doesNotExist();
+    }
+
+    @Test
+    void maintainPartitions_shouldKeepPartitionWhenArchiveFails() {
+        TicketAuditPartition expired = partition(2024, 1);
+        when(partitionRepository.findPartitions()).thenReturn(List.of(expired, partition(2024, 2)));
+        when(partitionRepository.copyOut(eq(expired), any())).thenThrow(new IllegalStateException("copy failed"));
+
+        newService(12).maintainPartitions(CURRENT_MONTH);
+
+        verify(partitionRepository, never()).dropPartition(any());
+        assertThat(archiveDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    void maintainPartitions_shouldCreateLaterMonthsWhenOneMonthFails() {
+        when(partitionRepository.createPartition(YearMonth.of(2026, 10)))
+                .thenThrow(new IllegalStateException("default partition holds rows"));
+
+        newService(0).maintainPartitions(CURRENT_MONTH);
+
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 11));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 12));
+    }
+
+    @Test
+    void maintainPartitions_shouldNotArchiveWhenRetentionIsDisabled() {
+        newService(0).maintainPartitions(CURRENT_MONTH);
+
+        verify(partitionRepository, never()).findPartitions();
+        verify(partitionRepository, never()).dropPartition(any());
+    }
+
+    private TicketAuditPartitionService newService(int retentionMonths) {
+        return new TicketAuditPartitionService(
+                partitionRepository,
+                transactionManager,
+                new TicketAuditProperties(10, 10, Duration.ofMillis(10), Duration.ofMillis(10), 2, retentionMonths, archiveDirectory)
+        );
+    }
+
+    private static TicketAuditPartition partition(int year, int month) {
+        YearMonth partitionMonth = YearMonth.of(year, month);
+        return new TicketAuditPartition("ticket_audit_logs_p%d%02d".formatted(year, month), partitionMonth);
+    }
+}
@@ -0,0 +1,123 @@
+package com.pulsedesk.ticket.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulsedesk.common.api.CursorPageResponse;
+import com.pulsedesk.common.pagination.SeekCursor;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.TicketAuditLogResponse;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketAuditLog;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketAuditLogRepository;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketAuditServiceTest {
+
+    private static final Long TICKET_ID = 7L;
+    private static final OffsetDateTime TICKET_CREATED_AT = OffsetDateTime.parse("2026-03-01T09:00:00Z");
+
+    @Mock
+    private TicketAuditLogRepository auditLogRepository;
+
+    @Mock
+    private TicketAccessGuard accessGuard;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AuthPrincipal currentUser = new AuthPrincipal(2L, "agent", UserRole.AGENT, 1L);
+    private TicketAuditService ticketAuditService;
+
+    @BeforeEach
+    void setUp() {
+        ticketAuditService = new TicketAuditService(auditLogRepository, accessGuard, objectMapper);
+
+        Ticket ticket = new Ticket("Audit fixture", "Audit fixture", TicketPriority.MEDIUM, 10L, 1L);
+        ticket.initializeTimestamps(TICKET_CREATED_AT);
+        when(accessGuard.requireVisible(currentUser, TICKET_ID)).thenReturn(ticket);
+    }
+
+    @Test
+    void listAuditLogsByCursor_shouldReturnNextCursorWhenMoreRowsExist() {
+        TicketAuditLog first = auditLog(1L, "2026-03-02T10:00:00Z");
+        TicketAuditLog second = auditLog(2L, "2026-03-02T11:00:00Z");
+        TicketAuditLog extra = auditLog(3L, "2026-03-02T12:00:00Z");
+
+        when(auditLogRepository.findByTicketIdAndCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                TICKET_ID, TICKET_CREATED_AT, PageRequest.of(0, 3)
+        )).thenReturn(List.of(first, second, extra));
+
+        CursorPageResponse<TicketAuditLogResponse> page =
+                ticketAuditService.listAuditLogsByCursor(currentUser, TICKET_ID, null, 2);
+
+        assertThat(page.items()).extracting(TicketAuditLogResponse::id).containsExactly(1L, 2L);
+        assertThat(page.prevCursor()).isNull();
+        assertThat(SeekCursor.decode(page.nextCursor()))
+                .isEqualTo(SeekCursor.after(second.getCreatedAt(), 2L));
+    }
+
+    @Test
+    void listAuditLogsByCursor_shouldSeekBackwardAndRestoreAscendingOrder() {
+        SeekCursor cursor = SeekCursor.before(OffsetDateTime.parse("2026-03-02T12:00:00Z"), 3L);
+
+        when(auditLogRepository.findPageBefore(
+                TICKET_ID, TICKET_CREATED_AT, cursor.timestamp(), 3L, PageRequest.of(0, 3)
+        )).thenReturn(List.of(auditLog(2L, "2026-03-02T11:00:00Z"), auditLog(1L, "2026-03-02T10:00:00Z")));
+
+        CursorPageResponse<TicketAuditLogResponse> page =
+                ticketAuditService.listAuditLogsByCursor(currentUser, TICKET_ID, cursor.encode(), 2);
+
+        assertThat(page.items()).extracting(TicketAuditLogResponse::id).containsExactly(1L, 2L);
+        assertThat(page.prevCursor()).isNull();
+        assertThat(page.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void writeNdjson_shouldWriteOneJsonObjectPerLine() throws Exception {
+        TicketAuditService.AuditLogScope scope = ticketAuditService.resolveScope(currentUser, TICKET_ID);
+
+        when(auditLogRepository.findByTicketIdAndCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                eq(TICKET_ID), eq(TICKET_CREATED_AT), any()
+        )).thenReturn(List.of(auditLog(1L, "2026-03-02T10:00:00Z"), auditLog(2L, "2026-03-02T11:00:00Z")));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rowCount = ticketAuditService.writeNdjson(scope, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+
+        assertThat(rowCount).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(2L);
+        assertThat(second.get("newStatus").asText()).isEqualTo("IN_PROGRESS");
+        verify(accessGuard).requireVisible(currentUser, TICKET_ID);
+    }
+
+    private static TicketAuditLog auditLog(Long id, String createdAt) {
+        TicketAuditLog auditLog = TicketAuditLog.statusChange(TICKET_ID, TicketStatus.OPEN, TicketStatus.IN_PROGRESS, 1L);
+        ReflectionTestUtils.setField(auditLog, "id", id);
+        ReflectionTestUtils.setField(auditLog, "createdAt", OffsetDateTime.parse(createdAt));
+        return auditLog;
+    }
+}
@@ -0,0 +1,143 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketBulkProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.BulkAssignRequest;
+import com.pulsedesk.ticket.api.dto.BulkOperationItemResult;
+import com.pulsedesk.ticket.api.dto.BulkOperationResponse;
+import com.pulsedesk.ticket.domain.TicketBulkJob;
+import com.pulsedesk.ticket.domain.TicketBulkJobStatus;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketBulkJobServiceTest {
+
+    private static final AuthPrincipal OWNER =
+            new AuthPrincipal(10L, "agent", UserRole.AGENT, 3L);
+    private static final AuthPrincipal OTHER_USER =
+            new AuthPrincipal(11L, "other", UserRole.AGENT, 3L);
+    private static final AuthPrincipal ADMIN =
+            new AuthPrincipal(1L, "admin", UserRole.ADMIN, null);
+
+    @Mock
+    private TicketBulkOperationService ticketBulkOperationService;
+
+    private TicketBulkJobService ticketBulkJobService;
+
+    @BeforeEach
+    void setUp() {
+        ticketBulkJobService = new TicketBulkJobService(
+                ticketBulkOperationService,
+                new TicketBulkProperties(2, 2, 2, 1, Duration.ZERO)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketBulkJobService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createAssignJob_shouldReportChunkProgressAndKeepResult() throws Exception {
+        BulkAssignRequest request = new BulkAssignRequest(List.of(1L, 2L, 3L, 3L), 99L);
+        List<BulkOperationItemResult> results = List.of(
+                new BulkOperationItemResult(1L, true, "Assigned"),
+                new BulkOperationItemResult(2L, true, "Assigned"),
+                new BulkOperationItemResult(3L, false, "Ticket not found")
+        );
+        BulkOperationResponse response = new BulkOperationResponse(3, 2, 1, "Bulk assign completed", results);
+        CountDownLatch firstChunkRecorded = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+
+        when(ticketBulkOperationService.bulkAssign(eq(OWNER), eq(request), any(Consumer.class)))
+                .thenAnswer(invocation -> {
+                    Consumer<List<BulkOperationItemResult>> progress = invocation.getArgument(2);
+                    progress.accept(results.subList(0, 2));
+                    firstChunkRecorded.countDown();
+                    resume.await(5, TimeUnit.SECONDS);
+                    progress.accept(results.subList(2, 3));
+                    return response;
+                });
+
+        TicketBulkJob job = ticketBulkJobService.createAssignJob(OWNER, request);
+
+        assertThat(job.getTotalCount()).isEqualTo(3);
+        assertThat(firstChunkRecorded.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.getStatus()).isEqualTo(TicketBulkJobStatus.RUNNING);
+        assertThat(job.getProcessedCount()).isEqualTo(2);
+        assertThatThrownBy(() -> ticketBulkJobService.getResult(OWNER, job.getId()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("no result yet");
+
+        resume.countDown();
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(TicketBulkJobStatus.COMPLETED);
+        assertThat(job.getSuccessCount()).isEqualTo(2);
+        assertThat(job.getFailureCount()).isEqualTo(1);
+        assertThat(ticketBulkJobService.getResult(OWNER, job.getId())).isEqualTo(response);
+        assertThat(ticketBulkJobService.getJob(ADMIN, job.getId())).isSameAs(job);
+        assertThatThrownBy(() -> ticketBulkJobService.getJob(OTHER_USER, job.getId()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Bulk job not found");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createAssignJob_shouldRejectWhenActiveJobLimitReached() throws Exception {
+        BulkAssignRequest request = new BulkAssignRequest(List.of(1L), 99L);
+        CountDownLatch resume = new CountDownLatch(1);
+
+        when(ticketBulkOperationService.bulkAssign(eq(OWNER), eq(request), any(Consumer.class)))
+                .thenAnswer(invocation -> {
+                    resume.await(5, TimeUnit.SECONDS);
+                    throw new IllegalStateException("boom");
+                });
+
+        TicketBulkJob job = ticketBulkJobService.createAssignJob(OWNER, request);
+
+        assertThatThrownBy(() -> ticketBulkJobService.createAssignJob(OWNER, request))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Too many bulk jobs");
+
+        resume.countDown();
+        awaitFinished(job);
+        Thread.sleep(5);
+
+        assertThat(job.getStatus()).isEqualTo(TicketBulkJobStatus.FAILED);
+        assertThat(job.getFailureMessage()).isEqualTo("Bulk job failed");
+
+        ticketBulkJobService.sweepExpiredJobs();
+
+        assertThatThrownBy(() -> ticketBulkJobService.getJob(OWNER, job.getId()))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private static void awaitFinished(TicketBulkJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketBulkProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.BulkAssignRequest;
+import com.pulsedesk.ticket.api.dto.BulkMatchingOperationResponse;
+import com.pulsedesk.ticket.api.dto.BulkOperationItemResult;
+import com.pulsedesk.ticket.api.dto.BulkOperationResponse;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketBulkOperationServiceTest {
+
+    private static final AuthPrincipal ADMIN = new AuthPrincipal(1L, "admin", UserRole.ADMIN, null);
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketBulkOperationService ticketBulkOperationService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        ticketBulkOperationService = new TicketBulkOperationService(
+                ticketService,
+                transactionManager,
+                new TicketBulkProperties(2, 2, 2, 1, Duration.ofHours(1))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketBulkOperationService.shutdown();
+    }
+
+    @Test
+    void bulkAssign_shouldRunEachChunkInItsOwnTransactionAndKeepOrder() {
+        when(ticketService.bulkAssign(eq(ADMIN), any(BulkAssignRequest.class)))
+                .thenAnswer(invocation -> succeeded(invocation.<BulkAssignRequest>getArgument(1).ticketIds()));
+
+        BulkOperationResponse response = ticketBulkOperationService.bulkAssign(
+                ADMIN,
+                new BulkAssignRequest(List.of(1L, 2L, 3L, 2L, 4L, 5L), 9L)
+        );
+
+        assertThat(response.totalCount()).isEqualTo(5);
+        assertThat(response.successCount()).isEqualTo(5);
+        assertThat(response.results()).extracting(BulkOperationItemResult::ticketId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void bulkAssign_shouldRetryItemsIndividuallyWhenChunkFails() {
+        when(ticketService.bulkAssign(eq(ADMIN), any(BulkAssignRequest.class))).thenAnswer(invocation -> {
+            List<Long> ticketIds = invocation.<BulkAssignRequest>getArgument(1).ticketIds();
+
+            if (ticketIds.contains(2L)) {
+                throw new DataIntegrityViolationException("constraint violated");
+            }
+            return succeeded(ticketIds);
+        });
+
+        BulkOperationResponse response = ticketBulkOperationService.bulkAssign(
+                ADMIN,
+                new BulkAssignRequest(List.of(1L, 2L, 3L), 9L)
+        );
+
+        assertThat(response.successCount()).isEqualTo(2);
+        assertThat(response.failureCount()).isEqualTo(1);
+        assertThat(response.results())
+                .extracting(BulkOperationItemResult::ticketId, BulkOperationItemResult::success)
+                .containsExactly(tuple(1L, true), tuple(2L, false), tuple(3L, true));
+        assertThat(response.results().get(1).message()).isEqualTo("constraint violated");
+    }
+
+    @Test
+    void bulkAssign_shouldRunNoMoreChunksAtOnceThanConfigured() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(ticketService.bulkAssign(eq(ADMIN), any(BulkAssignRequest.class))).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return succeeded(invocation.<BulkAssignRequest>getArgument(1).ticketIds());
+        });
+
+        BulkOperationResponse response = ticketBulkOperationService.bulkAssign(
+                ADMIN,
+                new BulkAssignRequest(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), 9L)
+        );
+
+        assertThat(response.successCount()).isEqualTo(10);
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void bulkAssign_shouldReleaseChunkSlotBeforeReportingProgress() {
+        CountDownLatch allChunksRan = new CountDownLatch(5);
+        AtomicInteger stalledReports = new AtomicInteger();
+        when(ticketService.bulkAssign(eq(ADMIN), any(BulkAssignRequest.class))).thenAnswer(invocation -> {
+            allChunksRan.countDown();
+            return succeeded(invocation.<BulkAssignRequest>getArgument(1).ticketIds());
+        });
+
+        BulkOperationResponse response = ticketBulkOperationService.bulkAssign(
+                ADMIN,
+                new BulkAssignRequest(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), 9L),
+                results -> {
+                    try {
+                        if (!allChunksRan.await(5, TimeUnit.SECONDS)) {
+                            stalledReports.incrementAndGet();
+                        }
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+        );
+
+        assertThat(response.successCount()).isEqualTo(10);
+        assertThat(stalledReports.get()).isZero();
+    }
+
+    private static BulkOperationResponse succeeded(List<Long> ticketIds) {
+        List<BulkOperationItemResult> results = ticketIds.stream()
+                .map(ticketId -> new BulkOperationItemResult(ticketId, true, "Ticket assigned successfully"))
+                .toList();
+
+        return new BulkOperationResponse(results.size(), results.size(), 0, "ok", results);
+    }
+
+    @Test
+    void assignMatching_shouldRunBatchesUntilAShortBatch() {
+        TicketSearchCriteria criteria = TicketSearchCriteria.builder().teamId(3L).build();
+
+        when(ticketService.assignMatching(ADMIN, criteria, 20L, 2)).thenReturn(2, 2, 1);
+
+        BulkMatchingOperationResponse response = ticketBulkOperationService.assignMatching(ADMIN, criteria, 20L);
+
+        assertThat(response.updatedCount()).isEqualTo(5);
+        verify(ticketService, times(3)).assignMatching(ADMIN, criteria, 20L, 2);
+        verify(transactionManager, times(3)).commit(any());
+    }
+}
@@ -0,0 +1,121 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.common.pagination.ChangeWatermark;
+import com.pulsedesk.config.TicketExportProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketChangeRepository;
+import com.pulsedesk.ticket.repository.TicketChangeRow;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import com.pulsedesk.ticket.service.TicketDeltaExportService.TicketChangeBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketDeltaExportServiceTest {
+
+    private static final OffsetDateTime UPDATED_AT = OffsetDateTime.parse("2026-03-15T10:00:00Z");
+    private static final OffsetDateTime DELETED_AT = OffsetDateTime.parse("2026-03-15T11:00:00Z");
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private TicketChangeRepository ticketChangeRepository;
+
+    @Mock
+    private AuthPrincipal currentUser;
+
+    private TicketDeltaExportService ticketDeltaExportService;
+
+    @BeforeEach
+    void setUp() {
+        ticketDeltaExportService = new TicketDeltaExportService(
+                ticketService,
+                ticketChangeRepository,
+                new TicketExportProperties(Path.of("exports"), 1, 1, Duration.ofHours(1), Duration.ofSeconds(5))
+        );
+    }
+
+    @Test
+    void findChanges_shouldReturnNextWatermarkFromLastRowOfBatch() throws Exception {
+        TicketSearchCriteria scope = TicketSearchCriteria.builder().teamId(3L).build();
+        ChangeWatermark since = new ChangeWatermark(UPDATED_AT.minusDays(1), 1L);
+
+        when(ticketService.resolveSearchCriteria(currentUser, null, null, null, null, null, null, null))
+                .thenReturn(scope);
+        when(ticketChangeRepository.findChanges(eq(scope), eq(since), any(OffsetDateTime.class), eq(3)))
+                .thenReturn(List.of(
+                        new TicketChangeRow(7L, "Printer, 2nd floor", TicketStatus.OPEN, TicketPriority.HIGH,
+                                10L, null, UPDATED_AT.minusHours(2), UPDATED_AT, false),
+                        new TicketChangeRow(9L, null, null, null, 11L, null, null, DELETED_AT, true),
+                        new TicketChangeRow(12L, "Later", TicketStatus.OPEN, TicketPriority.LOW,
+                                10L, null, DELETED_AT, DELETED_AT, false)
+                ));
+
+        TicketChangeBatch batch = ticketDeltaExportService.findChanges(currentUser, null, since.encode(), 2);
+
+        assertThat(batch.hasMore()).isTrue();
+        assertThat(batch.changes()).hasSize(2);
+        assertThat(ChangeWatermark.decode(batch.nextWatermark()))
+                .isEqualTo(new ChangeWatermark(DELETED_AT, 9L));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ticketDeltaExportService.writeCsv(batch, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,title,status,priority,requester,assignee,createdAt,updatedAt,deleted\n"
+                        + "7,\"Printer, 2nd floor\",OPEN,HIGH,10,,2026-03-15T08:00:00Z,2026-03-15T10:00:00Z,false\n"
+                        + "9,,,,11,,,2026-03-15T11:00:00Z,true\n"
+        );
+    }
+
+    @Test
+    void findChanges_shouldKeepWatermarkWhenNothingChanged() {
+        TicketSearchCriteria scope = TicketSearchCriteria.builder().build();
+        String since = new ChangeWatermark(UPDATED_AT, 5L).encode();
+
+        when(ticketService.resolveSearchCriteria(currentUser, null, null, null, null, null, null, null))
+                .thenReturn(scope);
+        when(ticketChangeRepository.findChanges(eq(scope), any(ChangeWatermark.class), any(OffsetDateTime.class), eq(10_001)))
+                .thenReturn(List.of());
+
+        TicketChangeBatch batch = ticketDeltaExportService.findChanges(currentUser, null, since, null);
+
+        assertThat(batch.hasMore()).isFalse();
+        assertThat(batch.changes()).isEmpty();
+        assertThat(batch.nextWatermark()).isEqualTo(since);
+    }
+
+    @Test
+    void findChanges_shouldStopBeforeOldestOpenWriteTransaction() {
+        TicketSearchCriteria scope = TicketSearchCriteria.builder().build();
+        OffsetDateTime openWriteStart = OffsetDateTime.now().minusMinutes(3);
+
+        when(ticketService.resolveSearchCriteria(currentUser, null, null, null, null, null, null, null))
+                .thenReturn(scope);
+        when(ticketChangeRepository.findOldestOpenWriteStart()).thenReturn(openWriteStart);
+        when(ticketChangeRepository.findChanges(eq(scope), eq(null), eq(openWriteStart.minusSeconds(5)), eq(10_001)))
+                .thenReturn(List.of());
+
+        TicketChangeBatch batch = ticketDeltaExportService.findChanges(currentUser, null, null, null);
+
+        assertThat(batch.changes()).isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.common.pagination.ChangeWatermark;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.repository.TicketChangeRow;
+import com.pulsedesk.ticket.service.TicketDeltaExportService.TicketChangeBatch;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Holds a ticket write open across a delta page and asserts the page does not move the
+ * watermark past it, so the ticket is delivered once the write commits.
+ * Runs only when PULSEDESK_TEST_DB_URL points at a disposable database
+ * (PULSEDESK_TEST_DB_USER / PULSEDESK_TEST_DB_PASS default to pulsedesk).
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "PULSEDESK_TEST_DB_URL", matches = ".+")
+class TicketDeltaExportVisibilityTest {
+
+    private static final long TEAM_ID = 912_001L;
+    private static final AuthPrincipal ADMIN =
+            new AuthPrincipal(1L, "admin", UserRole.ADMIN, null);
+
+    private static final String INSERT_TICKET = """
+            insert into tickets (title, description, status, priority, requester_id, team_id, created_at, updated_at)
+            values ('Delta visibility', 'Delta visibility fixture', 'OPEN', 'LOW', 1, ?, %1$s, %1$s)
+            returning id
+            """;
+
+    @Autowired
+    private TicketDeltaExportService ticketDeltaExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PULSEDESK_TEST_DB_URL"));
+        registry.add("spring.datasource.username", () -> envOrDefault("PULSEDESK_TEST_DB_USER", "pulsedesk"));
+        registry.add("spring.datasource.password", () -> envOrDefault("PULSEDESK_TEST_DB_PASS", "pulsedesk"));
+        registry.add("spring.liquibase.contexts", () -> "test");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("app.tickets.export.delta-visibility-lag", () -> "0s");
+    }
+
+    @AfterEach
+    void removeFixture() {
+        jdbcTemplate.update("delete from tickets where team_id = ?", TEAM_ID);
+    }
+
+    @Test
+    void findChanges_shouldDeliverTicketFromWriteCommittedAfterPageAdvanced() throws Exception {
+        OffsetDateTime start = jdbcTemplate.queryForObject("select clock_timestamp()", OffsetDateTime.class);
+        String since = new ChangeWatermark(start.minusSeconds(1), 0L).encode();
+        List<Long> delivered = new ArrayList<>();
+        long slowTicketId;
+
+        try (Connection slowWrite = dataSource.getConnection()) {
+            slowWrite.setAutoCommit(false);
+            slowTicketId = insertTicket(slowWrite, "now()");
+
+            Thread.sleep(50);
+            Long laterTicketId = jdbcTemplate.queryForObject(
+                    INSERT_TICKET.formatted("clock_timestamp()"), Long.class, TEAM_ID);
+
+            TicketChangeBatch firstPage = ticketDeltaExportService.findChanges(ADMIN, TEAM_ID, since, 100);
+            firstPage.changes().forEach(change -> delivered.add(change.id()));
+            since = firstPage.nextWatermark();
+
+            assertThat(delivered).doesNotContain(laterTicketId);
+
+            slowWrite.commit();
+        }
+
+        TicketChangeBatch secondPage = ticketDeltaExportService.findChanges(ADMIN, TEAM_ID, since, 100);
+        secondPage.changes().stream().map(TicketChangeRow::id).forEach(delivered::add);
+
+        assertThat(delivered).contains(slowTicketId).doesNotHaveDuplicates();
+    }
+
+    private static long insertTicket(Connection connection, String timestamp) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_TICKET.formatted(timestamp))) {
+            statement.setLong(1, TEAM_ID);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,131 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.config.TicketExportProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.domain.TicketExportJob;
+import com.pulsedesk.ticket.domain.TicketExportJobStatus;
+import com.pulsedesk.ticket.repository.TicketCountEstimator;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketExportJobServiceTest {
+
+    private static final AuthPrincipal OWNER =
+            new AuthPrincipal(10L, "agent", UserRole.AGENT, 3L);
+    private static final AuthPrincipal OTHER_USER =
+            new AuthPrincipal(11L, "other", UserRole.AGENT, 3L);
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private TicketCountEstimator ticketCountEstimator;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    private TicketExportJobService ticketExportJobService;
+
+    @BeforeEach
+    void setUp() {
+        ticketExportJobService = new TicketExportJobService(
+                ticketService,
+                ticketCountEstimator,
+                new TicketExportProperties(spoolDirectory, 1, 5, Duration.ZERO, Duration.ZERO)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketExportJobService.shutdown();
+    }
+
+    @Test
+    void createJob_shouldSpoolCsvToFileAndComplete() throws Exception {
+        TicketSearchCriteria criteria = TicketSearchCriteria.builder().teamId(3L).build();
+
+        when(ticketService.resolveSearchCriteria(OWNER, null, null, null, null, null, null, null))
+                .thenReturn(criteria);
+        when(ticketCountEstimator.estimate(criteria)).thenReturn(1L);
+        when(ticketService.exportTicketsCsv(eq(criteria), eq(Sort.unsorted()), any(OutputStream.class), any(LongConsumer.class)))
+                .thenAnswer(invocation -> {
+                    OutputStream output = invocation.getArgument(2);
+                    output.write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        TicketExportJob job = ticketExportJobService.createJob(
+                OWNER, null, null, null, null, null, null, null, Sort.unsorted()
+        );
+
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(TicketExportJobStatus.COMPLETED);
+        assertThat(job.getRowsWritten()).isEqualTo(1L);
+        assertThat(job.getEstimatedRows()).isEqualTo(1L);
+
+        Path file = ticketExportJobService.getCompletedFile(OWNER, job.getId());
+        assertThat(Files.readString(file)).isEqualTo("id\n1\n");
+        assertThat(spoolDirectory.resolve(job.getId() + ".csv.part")).doesNotExist();
+
+        assertThatThrownBy(() -> ticketExportJobService.getJob(OTHER_USER, job.getId()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Export job not found");
+    }
+
+    @Test
+    void sweepExpiredExports_shouldRemoveFinishedJobsAndFiles() throws Exception {
+        TicketSearchCriteria criteria = TicketSearchCriteria.builder().build();
+
+        when(ticketService.resolveSearchCriteria(OWNER, null, null, null, null, null, null, null))
+                .thenReturn(criteria);
+        when(ticketService.exportTicketsCsv(eq(criteria), eq(Sort.unsorted()), any(OutputStream.class), any(LongConsumer.class)))
+                .thenReturn(0L);
+
+        TicketExportJob job = ticketExportJobService.createJob(
+                OWNER, null, null, null, null, null, null, null, Sort.unsorted()
+        );
+
+        awaitFinished(job);
+        Thread.sleep(5);
+
+        ticketExportJobService.sweepExpiredExports();
+
+        assertThat(job.getFile()).doesNotExist();
+        assertThatThrownBy(() -> ticketExportJobService.getJob(OWNER, job.getId()))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private static void awaitFinished(TicketExportJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(job.isFinished()).as("export job finished").isTrue();
+    }
+}
@@ -0,0 +1,79 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.TicketFacetsResponse;
+import com.pulsedesk.ticket.api.dto.TicketFacetsResponse.AssigneeCount;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.TicketFacetRepository;
+import com.pulsedesk.ticket.repository.TicketFacetRow;
+import com.pulsedesk.ticket.repository.TicketFacetRow.TicketFacet;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketFacetServiceTest {
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private TicketFacetRepository ticketFacetRepository;
+
+    @Mock
+    private AuthPrincipal currentUser;
+
+    private TicketFacetService ticketFacetService;
+
+    @BeforeEach
+    void setUp() {
+        ticketFacetService = new TicketFacetService(ticketService, ticketFacetRepository);
+    }
+
+    @Test
+    void getFacets_shouldFillEveryBucketFromGroupedRows() {
+        TicketSearchCriteria criteria = TicketSearchCriteria.builder()
+                .teamId(3L)
+                .build();
+
+        when(ticketService.resolveSearchCriteria(currentUser, TicketStatus.OPEN, null, null, null, null, null, null))
+                .thenReturn(criteria);
+        when(ticketFacetRepository.countFacets(criteria)).thenReturn(List.of(
+                new TicketFacetRow(TicketFacet.STATUS, "OPEN", 12),
+                new TicketFacetRow(TicketFacet.PRIORITY, "HIGH", 5),
+                new TicketFacetRow(TicketFacet.PRIORITY, "LOW", 7),
+                new TicketFacetRow(TicketFacet.ASSIGNEE, "42", 4),
+                new TicketFacetRow(TicketFacet.ASSIGNEE, null, 8)
+        ));
+
+        TicketFacetsResponse result = ticketFacetService.getFacets(
+                currentUser,
+                TicketStatus.OPEN,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        assertThat(result.statusCounts())
+                .containsEntry("OPEN", 12L)
+                .containsEntry("CLOSED", 0L)
+                .hasSize(TicketStatus.values().length);
+        assertThat(result.priorityCounts())
+                .containsEntry("HIGH", 5L)
+                .containsEntry("MEDIUM", 0L)
+                .containsEntry("LOW", 7L);
+        assertThat(result.assigneeCounts())
+                .containsExactly(new AssigneeCount(null, 8), new AssigneeCount(42L, 4));
+    }
+}
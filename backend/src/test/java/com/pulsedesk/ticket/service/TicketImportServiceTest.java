@@ -0,0 +1,142 @@
+package com.pulsedesk.ticket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulsedesk.config.TicketImportProperties;
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.TicketImportError;
+import com.pulsedesk.ticket.api.dto.TicketImportResponse;
+import com.pulsedesk.ticket.api.dto.TicketRequest;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketImportServiceTest {
+
+    private static final AuthPrincipal AGENT = new AuthPrincipal(10L, "agent", UserRole.AGENT, 3L);
+    private static final MediaType CSV = new MediaType("text", "csv");
+
+    @Mock
+    private TicketService ticketService;
+
+    private TicketImportService ticketImportService;
+
+    @BeforeEach
+    void setUp() {
+        ticketImportService = new TicketImportService(
+                ticketService,
+                new ObjectMapper(),
+                new TicketImportProperties(2, 10)
+        );
+    }
+
+    @Test
+    void importTickets_shouldReportInvalidCsvRowsAndImportTheRestInBatches() throws IOException {
+        List<Integer> batchSizes = new ArrayList<>();
+
+        when(ticketService.newTicket(eq(AGENT), any(TicketRequest.class), any(OffsetDateTime.class)))
+                .thenAnswer(invocation -> {
+                    TicketRequest request = invocation.getArgument(1);
+
+                    if (request.getTeamId() != 3L) {
+                        throw new AccessDeniedException("Agent cannot create tickets for another team");
+                    }
+
+                    return ticket(request);
+                });
+        when(ticketService.importTickets(anyList())).thenAnswer(invocation -> {
+            List<Ticket> tickets = invocation.getArgument(0);
+            batchSizes.add(tickets.size());
+            return tickets.size();
+        });
+
+        String csv = """
+                Title,Description,Priority,TeamId,AssigneeId
+                Printer,"Jams on ""page 2"" again",high,3,
+                VPN,Drops hourly,URGENT,3,
+                Mail,Bounces,LOW,4,
+                Laptop,"Fan noise,
+                after update",medium,3,20
+                Badge,Expired,LOW,3,
+                """;
+
+        TicketImportResponse response = ticketImportService.importTickets(AGENT, CSV, stream(csv));
+
+        assertThat(response.totalRows()).isEqualTo(5);
+        assertThat(response.importedCount()).isEqualTo(3);
+        assertThat(response.failedCount()).isEqualTo(2);
+        assertThat(response.errors())
+                .extracting(TicketImportError::line, TicketImportError::message)
+                .containsExactly(
+                        tuple(3L, "Invalid priority: URGENT"),
+                        tuple(4L, "Agent cannot create tickets for another team")
+                );
+        assertThat(batchSizes).containsExactly(2, 1);
+    }
+
+    @Test
+    void importTickets_shouldIsolateRowsThatFailInsideACopyBatch() throws IOException {
+        when(ticketService.newTicket(eq(AGENT), any(TicketRequest.class), any(OffsetDateTime.class)))
+                .thenAnswer(invocation -> ticket(invocation.getArgument(1)));
+        when(ticketService.importTickets(anyList())).thenAnswer(invocation -> {
+            List<Ticket> tickets = invocation.getArgument(0);
+
+            if (tickets.stream().anyMatch(ticket -> ticket.getTitle().equals("Broken"))) {
+                throw new DataIntegrityViolationException("fk violation");
+            }
+
+            return tickets.size();
+        });
+
+        String ndjson = """
+                {"title":"Printer","description":"Jams","priority":"HIGH","teamId":3}
+
+                {"title":"Broken","description":"Bad assignee","priority":"LOW","teamId":3,"assigneeId":999}
+                not json
+                """;
+
+        TicketImportResponse response = ticketImportService.importTickets(
+                AGENT,
+                MediaType.APPLICATION_NDJSON,
+                stream(ndjson)
+        );
+
+        assertThat(response.importedCount()).isEqualTo(1);
+        assertThat(response.errors())
+                .extracting(TicketImportError::line, TicketImportError::message)
+                .containsExactlyInAnyOrder(
+                        tuple(3L, "Ticket could not be imported"),
+                        tuple(4L, "Invalid ticket JSON")
+                );
+    }
+
+    private static Ticket ticket(TicketRequest request) {
+        return new Ticket(request.getTitle(), request.getDescription(), request.getPriority(), 10L, request.getTeamId());
+    }
+
+    private static ByteArrayInputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+package com.pulsedesk.ticket.service;
+
+import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.TicketListItemResponse;
+import com.pulsedesk.ticket.domain.Comment;
+import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketPriority;
+import com.pulsedesk.ticket.domain.TicketStatus;
+import com.pulsedesk.ticket.repository.CommentRepository;
+import com.pulsedesk.ticket.repository.TicketRepository;
+import com.pulsedesk.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises text search through {@link TicketService#listTickets} against the real
+ * search documents and indexes. The agent's team scopes every listing to the fixture.
+ * Each test uses its own query text so no page is served from the list cache.
+ * Runs only when PULSEDESK_TEST_DB_URL points at a disposable database
+ * (PULSEDESK_TEST_DB_USER / PULSEDESK_TEST_DB_PASS default to pulsedesk).
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "PULSEDESK_TEST_DB_URL", matches = ".+")
+class TicketServiceSearchTest {
+
+    private static final Long TEAM_ID = 902_001L;
+    private static final Long REQUESTER_ID = 902_101L;
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2021, 6, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+    private static final Pageable RANKED_PAGE = PageRequest.of(0, 20);
+
+    private final AuthPrincipal agent =
+            new AuthPrincipal(902_201L, "agent", UserRole.AGENT, TEAM_ID);
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Ticket printerOffline;
+    private Ticket tonerEmpty;
+    private Ticket vpnReset;
+    private Ticket dashboardExport;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PULSEDESK_TEST_DB_URL"));
+        registry.add("spring.datasource.username", () -> envOrDefault("PULSEDESK_TEST_DB_USER", "pulsedesk"));
+        registry.add("spring.datasource.password", () -> envOrDefault("PULSEDESK_TEST_DB_PASS", "pulsedesk"));
+        registry.add("spring.liquibase.contexts", () -> "test");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @BeforeEach
+    void seedFixture() {
+        printerOffline = seed("Printer offline on floor two", "Nothing prints since the morning",
+                TicketStatus.OPEN, 0);
+        tonerEmpty = seed("Toner empty at reception", "The reception printer shows a toner warning",
+                TicketStatus.RESOLVED, 1);
+        vpnReset = seed("VPN reset requested", "Cannot reach the load balancer after the reset",
+                TicketStatus.IN_PROGRESS, 2);
+        dashboardExport = seed("Dashboard export fails", "Exporting with several filters times out",
+                TicketStatus.OPEN, 3);
+
+        commentRepository.saveAndFlush(new Comment(dashboardExport, REQUESTER_ID, "Still failing with the quarterly spreadsheet"));
+    }
+
+    @Test
+    void listTickets_shouldRankTitleMatchesAboveDescriptionMatches() {
+        assertThat(search(null, "printer"))
+                .containsExactly(printerOffline.getId(), tonerEmpty.getId());
+    }
+
+    @Test
+    void listTickets_shouldCombineTextSearchWithStatusFilter() {
+        assertThat(search(TicketStatus.OPEN, "printers"))
+                .containsExactly(printerOffline.getId());
+    }
+
+    @Test
+    void listTickets_shouldMatchLastWordAsPrefixForTypeAhead() {
+        assertThat(search(null, "dashboard expo"))
+                .containsExactly(dashboardExport.getId());
+    }
+
+    @Test
+    void listTickets_shouldMatchQuotedPhraseOnly() {
+        assertThat(search(null, "\"load balancer\""))
+                .containsExactly(vpnReset.getId());
+        assertThat(search(null, "\"balancer load\""))
+                .isEmpty();
+    }
+
+    @Test
+    void listTickets_shouldFallBackToTrigramTitleMatchForTypos() {
+        assertThat(search(null, "dashbord"))
+                .containsExactly(dashboardExport.getId());
+    }
+
+    @Test
+    void listTickets_shouldFindTicketsByCommentBody() {
+        assertThat(search(null, "quarterly spreadsheet"))
+                .containsExactly(dashboardExport.getId());
+    }
+
+    @Test
+    void listTickets_shouldListEverythingForSymbolOnlyQuery() {
+        assertThat(search(null, "&|!"))
+                .containsExactlyInAnyOrder(
+                        printerOffline.getId(),
+                        tonerEmpty.getId(),
+                        vpnReset.getId(),
+                        dashboardExport.getId()
+                );
+    }
+
+    private List<Long> search(TicketStatus status, String query) {
+        return ticketService.listTickets(agent, status, null, null, null, query, null, null, RANKED_PAGE)
+                .map(TicketListItemResponse::getId)
+                .getContent();
+    }
+
+    private Ticket seed(String title, String description, TicketStatus status, int createdDay) {
+        OffsetDateTime createdAt = BASE_TIME.plusDays(createdDay);
+        Ticket ticket = new Ticket(title, description, TicketPriority.MEDIUM, REQUESTER_ID, TEAM_ID);
+        ticket.initializeTimestamps(createdAt);
+        ticket.changeStatus(status, createdAt);
+
+        return ticketRepository.saveAndFlush(ticket);
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -1,33 +1,69 @@
 package com.pulsedesk.ticket.service;
 
+import com.pulsedesk.common.api.CursorPageResponse;
+import com.pulsedesk.common.pagination.SeekCursor;
+import com.pulsedesk.config.TicketListingProperties;
 import com.pulsedesk.notification.repository.NotificationRepository;
 import com.pulsedesk.security.AuthPrincipal;
+import com.pulsedesk.ticket.api.dto.BulkAssignRequest;
+import com.pulsedesk.ticket.api.dto.BulkOperationItemResult;
+import com.pulsedesk.ticket.api.dto.BulkOperationResponse;
+import com.pulsedesk.ticket.api.dto.TicketListItemResponse;
 import com.pulsedesk.ticket.api.dto.TicketRequest;
 import com.pulsedesk.ticket.api.dto.TicketResponse;
+import com.pulsedesk.ticket.api.dto.TicketSliceResponse;
 import com.pulsedesk.ticket.domain.Ticket;
+import com.pulsedesk.ticket.domain.TicketChangedEvent;
 import com.pulsedesk.ticket.domain.TicketPriority;
 import com.pulsedesk.ticket.domain.TicketStatus;
 import com.pulsedesk.ticket.repository.CommentRepository;
-import com.pulsedesk.ticket.repository.TicketAuditLogRepository;
+import com.pulsedesk.ticket.repository.TicketBulkUpdateRepository;
+import com.pulsedesk.ticket.repository.TicketCountEstimator;
+import com.pulsedesk.ticket.repository.TicketExportRow;
+import com.pulsedesk.ticket.repository.TicketImportRepository;
+import com.pulsedesk.ticket.repository.TicketListItem;
+import com.pulsedesk.ticket.repository.TicketListOrder;
 import com.pulsedesk.ticket.repository.TicketRepository;
+import com.pulsedesk.ticket.repository.TicketSearchCriteria;
+import com.pulsedesk.ticket.repository.TicketTombstoneRepository;
+import com.pulsedesk.user.domain.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +73,7 @@ class TicketServiceTest {
     private TicketRepository ticketRepository;
 
     @Mock
-    private TicketAuditLogRepository auditLogRepository;
+    private TicketAuditLogWriter auditLogWriter;
 
     @Mock
     private CommentRepository commentRepository;
@@ -45,51 +81,75 @@ class TicketServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private TicketTombstoneRepository ticketTombstoneRepository;
+
+    @Mock
+    private TicketBulkUpdateRepository ticketBulkUpdateRepository;
+
+    @Mock
+    private TicketImportRepository ticketImportRepository;
+
+    @Mock
+    private TicketCountEstimator ticketCountEstimator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private AuthPrincipal currentUser;
 
+    private final TicketListingProperties listingProperties =
+            new TicketListingProperties(1000, 100, Duration.ofMinutes(5));
+
+    private TicketListCache ticketListCache;
+
     private TicketService ticketService;
 
     @BeforeEach
     void setUp() {
+        ticketListCache = new TicketListCache(listingProperties, new SimpleMeterRegistry());
         ticketService = new TicketService(
                 ticketRepository,
-                auditLogRepository,
+                auditLogWriter,
                 commentRepository,
-                notificationRepository
+                notificationRepository,
+                ticketTombstoneRepository,
+                ticketBulkUpdateRepository,
+                ticketImportRepository,
+                ticketCountEstimator,
+                listingProperties,
+                eventPublisher,
+                ticketListCache,
+                new TicketAccessGuard(ticketRepository)
         );
     }
 
     @Test
-    void exportTicketsCsv_shouldReturnExpectedHeaderAndRow() {
+    void exportTicketsCsv_shouldWriteExpectedHeaderAndRow() throws IOException {
         OffsetDateTime createdAt = OffsetDateTime.parse("2026-03-15T10:00:00+03:00");
         OffsetDateTime updatedAt = OffsetDateTime.parse("2026-03-15T12:30:00+03:00");
 
-        Ticket ticket = new Ticket(
+        TicketExportRow row = new TicketExportRow(
+                7L,
                 "Dashboard summary cards not loading",
-                "Dashboard summary endpoint returns incomplete data for admin view",
+                TicketStatus.OPEN,
                 TicketPriority.HIGH,
                 10L,
-                1L
-        );
-        ticket.initializeTimestamps(createdAt);
-        ticket.assignTo(20L);
-        ticket.updateDetails(
-                ticket.getTitle(),
-                ticket.getDescription(),
-                ticket.getPriority(),
+                20L,
+                createdAt,
                 updatedAt
         );
 
         when(currentUser.userId()).thenReturn(1L);
         when(currentUser.isAdmin()).thenReturn(true);
 
-        when(ticketRepository.findAll(
+        when(ticketRepository.streamExportRows(
                 org.mockito.ArgumentMatchers.<Specification<Ticket>>any(),
                 any(Sort.class)
-        )).thenReturn(List.of(ticket));
+        )).thenReturn(Stream.of(row));
 
-        String csv = ticketService.exportTicketsCsv(
+        TicketSearchCriteria criteria = ticketService.resolveSearchCriteria(
                 currentUser,
                 TicketStatus.OPEN,
                 TicketPriority.HIGH,
@@ -97,18 +157,23 @@ class TicketServiceTest {
                 null,
                 "dashboard",
                 null,
-                null,
-                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"))
+                null
         );
 
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rowCount = ticketService.exportTicketsCsv(
+                criteria,
+                Sort.by(Sort.Direction.ASC, "id"),
+                output
+        );
+        String csv = output.toString(StandardCharsets.UTF_8);
+
+        assertThat(rowCount).isEqualTo(1);
         assertThat(csv).contains("id,title,status,priority,requester,assignee,createdAt,updatedAt");
-        assertThat(csv).contains("\"Dashboard summary cards not loading\"");
-        assertThat(csv).contains("\"OPEN\"");
-        assertThat(csv).contains("\"HIGH\"");
-        assertThat(csv).contains("\"10\"");
-        assertThat(csv).contains("\"20\"");
-        assertThat(csv).contains("\"2026-03-15T10:00:00+03:00\"");
-        assertThat(csv).contains("\"2026-03-15T12:30:00+03:00\"");
+        assertThat(csv).contains(
+                "7,Dashboard summary cards not loading,OPEN,HIGH,10,20,"
+                        + "2026-03-15T10:00:00+03:00,2026-03-15T12:30:00+03:00\n"
+        );
     }
 
     @Test
@@ -145,27 +210,21 @@ class TicketServiceTest {
     void listTickets_shouldReturnPagedResult() {
         OffsetDateTime now = OffsetDateTime.parse("2026-03-15T11:00:00+03:00");
 
-        Ticket ticket = new Ticket(
-                "Dashboard filter issue",
-                "Admin dashboard filters do not refresh correctly",
-                TicketPriority.HIGH,
-                1L,
-                1L
-        );
-        ticket.initializeTimestamps(now);
+        TicketListItem ticket = listItem(1L, "Dashboard filter issue", now);
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Ticket> ticketPage = new PageImpl<>(List.of(ticket), pageable, 1);
+        Page<TicketListItem> ticketPage = new PageImpl<>(List.of(ticket), pageable, 1);
 
         when(currentUser.userId()).thenReturn(1L);
         when(currentUser.isAdmin()).thenReturn(true);
 
-        when(ticketRepository.findAll(
+        when(ticketRepository.findListItems(
                 org.mockito.ArgumentMatchers.<Specification<Ticket>>any(),
+                any(TicketListOrder.class),
                 any(Pageable.class)
         )).thenReturn(ticketPage);
 
-        Page<TicketResponse> result = ticketService.listTickets(
+        Page<TicketListItemResponse> result = ticketService.listTickets(
                 currentUser,
                 null,
                 null,
@@ -181,6 +240,147 @@ class TicketServiceTest {
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("Dashboard filter issue");
     }
 
+    @Test
+    void listTickets_shouldServeRepeatedTeamQueriesFromCacheUntilTeamTicketChanges() {
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<TicketListItem> ticketPage = new PageImpl<>(
+                List.of(listItem(1L, "Dashboard filter issue", OffsetDateTime.parse("2026-03-15T11:00:00Z"))),
+                pageable,
+                1
+        );
+
+        when(currentUser.isAgent()).thenReturn(true);
+        when(currentUser.teamId()).thenReturn(3L);
+        when(ticketRepository.findListItems(
+                org.mockito.ArgumentMatchers.<Specification<Ticket>>any(),
+                any(TicketListOrder.class),
+                any(Pageable.class)
+        )).thenReturn(ticketPage);
+
+        ticketService.listTickets(currentUser, null, null, null, null, " Login  Error ", null, null, pageable);
+        ticketService.listTickets(currentUser, null, null, null, null, "login error", null, null, pageable);
+
+        ticketListCache.onTicketChanged(new TicketChangedEvent(50L, 4L, 9L));
+        ticketService.listTickets(currentUser, null, null, null, null, "login error", null, null, pageable);
+
+        verify(ticketRepository, times(1)).findListItems(
+                org.mockito.ArgumentMatchers.<Specification<Ticket>>any(),
+                any(TicketListOrder.class),
+                any(Pageable.class)
+        );
+
+        ticketListCache.onTicketChanged(new TicketChangedEvent(51L, 3L, 9L));
+        ticketService.listTickets(currentUser, null, null, null, null, "login error", null, null, pageable);
+
+        verify(ticketRepository, times(2)).findListItems(
+                org.mockito.ArgumentMatchers.<Specification<Ticket>>any(),
+                any(TicketListOrder.class),
+                any(Pageable.class)
+        );
+    }
+
+    @Test
+    void listTicketsByCursor_shouldReturnNextCursorWhenMoreRowsExist() {
+        OffsetDateTime newest = OffsetDateTime.parse("2026-03-15T11:00:00Z");
+        OffsetDateTime older = OffsetDateTime.parse("2026-03-15T10:00:00Z");
+
+        TicketListItem first = listItem(30L, "Newest ticket", newest);
+        TicketListItem second = listItem(20L, "Older ticket", older);
+        TicketListItem extra = listItem(10L, "Oldest ticket", older.minusHours(1));
+
+        when(currentUser.userId()).thenReturn(1L);
+        when(currentUser.isAdmin()).thenReturn(true);
+
+        when(ticketRepository.findListItems(
+                org.mockito.ArgumentMatchers.<Specification<Ticket>>any(),
+                any(Sort.class),
+                eq(3)
+        )).thenReturn(List.of(first, second, extra));
+
+        CursorPageResponse<TicketListItemResponse> result = ticketService.listTicketsByCursor(
+                currentUser,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                2
+        );
+
+        assertThat(result.items()).extracting(TicketListItemResponse::getId).containsExactly(30L, 20L);
+        assertThat(result.prevCursor()).isNull();
+        assertThat(SeekCursor.decode(result.nextCursor()))
+                .isEqualTo(SeekCursor.after(older, 20L));
+    }
+
+    @Test
+    void listTicketsSlice_shouldUseEstimateForLargeResultSets() {
+        Pageable pageable = PageRequest.of(0, 1);
+        TicketListItem ticket = listItem(30L, "Newest ticket", OffsetDateTime.parse("2026-03-15T11:00:00Z"));
+
+        when(currentUser.isAdmin()).thenReturn(true);
+        when(ticketRepository.findListItemSlice(any(), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(ticket), pageable, true));
+        when(ticketCountEstimator.estimate(any())).thenReturn(120_000L);
+
+        TicketSliceResponse result = ticketService.listTicketsSlice(
+                currentUser,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                pageable,
+                true
+        );
+
+        assertThat(result.content()).extracting(TicketListItemResponse::getId).containsExactly(30L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.totalElements()).isEqualTo(120_000L);
+        assertThat(result.totalEstimated()).isTrue();
+        verify(ticketRepository, never()).count(org.mockito.ArgumentMatchers.<Specification<Ticket>>any());
+    }
+
+    @Test
+    void bulkAssign_shouldLoadOnceAndWriteChangesInBatch() {
+        AuthPrincipal agent = new AuthPrincipal(30L, "agent", UserRole.AGENT, 5L);
+        Ticket unassigned = ticketWithId(1L, 5L, null);
+        Ticket alreadyAssigned = ticketWithId(2L, 5L, 42L);
+        Ticket otherTeam = ticketWithId(4L, 6L, null);
+
+        when(ticketRepository.findAllById(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(unassigned, alreadyAssigned, otherTeam));
+
+        BulkOperationResponse response = ticketService.bulkAssign(
+                agent,
+                new BulkAssignRequest(Arrays.asList(1L, 2L, 3L, 4L, null, 1L), 42L)
+        );
+
+        assertThat(response.totalCount()).isEqualTo(5);
+        assertThat(response.successCount()).isEqualTo(2);
+        assertThat(response.results())
+                .extracting(BulkOperationItemResult::ticketId, BulkOperationItemResult::success, BulkOperationItemResult::message)
+                .containsExactly(
+                        tuple(1L, true, "Ticket assigned successfully"),
+                        tuple(2L, true, "Ticket assigned successfully"),
+                        tuple(3L, false, "Ticket not found"),
+                        tuple(4L, false, "Agent cannot access tickets outside the team"),
+                        tuple(null, false, "ticketId is required")
+                );
+
+        verify(ticketRepository).assignAll(eq(List.of(1L)), eq(42L), any(OffsetDateTime.class));
+        verify(auditLogWriter).recordAll(argThat(logs -> logs.size() == 1
+                && logs.get(0).getTicketId().equals(1L)
+                && logs.get(0).getNewAssigneeId().equals(42L)));
+        verify(ticketRepository, never()).save(any(Ticket.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TicketChangedEvent.class));
+    }
+
     @Test
     void transitionTicket_shouldChangeStatus() {
         OffsetDateTime now = OffsetDateTime.parse("2026-03-15T13:00:00+03:00");
@@ -200,8 +400,6 @@ class TicketServiceTest {
         when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
         when(ticketRepository.save(any(Ticket.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
-        when(auditLogRepository.save(any()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
 
         TicketResponse response = ticketService.transitionTicket(
                 currentUser,
@@ -211,5 +409,73 @@ class TicketServiceTest {
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(TicketStatus.IN_PROGRESS);
+        verify(auditLogWriter).record(argThat(log -> log.getOldStatus() == TicketStatus.OPEN
+                && log.getNewStatus() == TicketStatus.IN_PROGRESS
+                && log.getCreatedAt() != null));
+    }
+
+    @Test
+    void transitionMatching_shouldLimitRequesterToAllowedSourcesAndPublishOncePerScope() {
+        AuthPrincipal requester = new AuthPrincipal(10L, "requester", UserRole.REQUESTER, null);
+        TicketSearchCriteria criteria = TicketSearchCriteria.builder().requesterId(10L).build();
+
+        when(ticketBulkUpdateRepository.transitionMatching(
+                eq(criteria),
+                eq(EnumSet.of(TicketStatus.RESOLVED)),
+                eq(TicketStatus.CLOSED),
+                eq(10L),
+                any(OffsetDateTime.class),
+                eq(500)
+        )).thenReturn(List.of(
+                new TicketChangedEvent(1L, 3L, 10L),
+                new TicketChangedEvent(2L, 3L, 10L),
+                new TicketChangedEvent(3L, 4L, 10L)
+        ));
+
+        int updated = ticketService.transitionMatching(requester, criteria, TicketStatus.CLOSED, 500);
+
+        assertThat(updated).isEqualTo(3);
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(1L, 3L, 10L));
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(3L, 4L, 10L));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void assignMatching_shouldRejectRequester() {
+        AuthPrincipal requester = new AuthPrincipal(10L, "requester", UserRole.REQUESTER, null);
+        TicketSearchCriteria criteria = TicketSearchCriteria.builder().requesterId(10L).build();
+
+        assertThatThrownBy(() -> ticketService.assignMatching(requester, criteria, 20L, 500))
+                .isInstanceOf(AccessDeniedException.class);
+
+        verify(ticketBulkUpdateRepository, never()).assignMatching(any(), any(), any(), any(), any(Integer.class));
+    }
+
+    private static Ticket ticketWithId(Long id, Long teamId, Long assigneeId) {
+        Ticket ticket = new Ticket("Bulk fixture " + id, "Bulk fixture", TicketPriority.MEDIUM, 10L, teamId);
+        ticket.initializeTimestamps(OffsetDateTime.parse("2026-03-15T10:00:00+03:00"));
+        ReflectionTestUtils.setField(ticket, "id", id);
+
+        if (assigneeId != null) {
+            ticket.assignTo(assigneeId);
+        }
+
+        return ticket;
+    }
+
+    private static TicketListItem listItem(Long id, String title, OffsetDateTime createdAt) {
+        return new TicketListItem(
+                id,
+                title,
+                "Pagination fixture",
+                TicketStatus.OPEN,
+                TicketPriority.MEDIUM,
+                1L,
+                null,
+                1L,
+                createdAt,
+                createdAt,
+                null
+        );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.pulsedesk.user.service;
+
+import com.pulsedesk.user.repo.UserIdentity;
+import com.pulsedesk.user.repo.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UsernameIndex usernameIndex;
+
+    @Test
+    void resolve_shouldAnswerFromIndexIgnoringCase() {
+        when(userRepository.findAllIdentities()).thenReturn(List.of(
+                new UserIdentity(1L, "Admin"),
+                new UserIdentity(2L, "agent1")
+        ));
+        usernameIndex.refresh();
+
+        Map<String, Long> resolved = usernameIndex.resolve(List.of("admin", "AGENT1"));
+
+        assertThat(resolved).containsExactly(Map.entry("admin", 1L), Map.entry("agent1", 2L));
+        verify(userRepository, never()).findIdentitiesByLowerUsernameIn(any());
+    }
+
+    @Test
+    void resolve_shouldLookUpMissesInOneQueryAndRememberHits() {
+        when(userRepository.findIdentitiesByLowerUsernameIn(Set.of("agent2", "ghost")))
+                .thenReturn(List.of(new UserIdentity(4L, "Agent2")));
+
+        assertThat(usernameIndex.resolve(List.of("agent2", "ghost"))).containsExactly(Map.entry("agent2", 4L));
+        assertThat(usernameIndex.resolve(List.of("agent2"))).containsExactly(Map.entry("agent2", 4L));
+
+        verify(userRepository).findIdentitiesByLowerUsernameIn(Set.of("agent2", "ghost"));
+    }
+}
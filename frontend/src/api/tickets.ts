@@ -24,6 +24,10 @@ export type Ticket = {
   resolvedAt: string | null;
 };
 
+export type TicketListItem = Omit<Ticket, "description"> & {
+  descriptionPreview: string;
+};
+
 export type TicketAuditAction = "STATUS_CHANGE" | "ASSIGNEE_CHANGE";
 
 export type TicketAuditLog = {
@@ -136,7 +140,7 @@ function withSignal(init?: RequestInit) {
 export async function fetchTickets(
   params: TicketListParams = {},
   init?: RequestInit
-): Promise<PageResponse<Ticket>> {
+): Promise<PageResponse<TicketListItem>> {
   const {
     page = 0,
     size = 10,
@@ -164,7 +168,7 @@ export async function fetchTickets(
     createdTo,
   });
 
-  return http<PageResponse<Ticket>>(`/tickets${query}`, {
+  return http<PageResponse<TicketListItem>>(`/tickets${query}`, {
     ...withSignal(init),
   });
 }
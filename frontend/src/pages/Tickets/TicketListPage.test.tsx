@@ -66,7 +66,7 @@ describe("TicketListPage", () => {
         {
           id: 1,
           title: "SMTP issue",
-          description: "Mail delivery problem",
+          descriptionPreview: "Mail delivery problem",
           status: "OPEN",
           priority: "HIGH",
           requesterId: 1,
@@ -102,7 +102,7 @@ describe("TicketListPage", () => {
         {
           id: 1,
           title: "SMTP issue",
-          description: "Mail delivery problem",
+          descriptionPreview: "Mail delivery problem",
           status: "OPEN",
           priority: "HIGH",
           requesterId: 1,
@@ -19,6 +19,7 @@ import type {
   BulkActionResponse,
   PageResponse,
   Ticket,
+  TicketListItem,
   TicketListParams,
 } from "../../api/tickets";
 
@@ -221,7 +222,7 @@ export default function TicketListPage() {
   const [savedViewsLoading, setSavedViewsLoading] = useState(true);
   const [selectedSavedViewId, setSelectedSavedViewId] = useState("");
 
-  const [data, setData] = useState<PageResponse<Ticket> | null>(null);
+  const [data, setData] = useState<PageResponse<TicketListItem> | null>(null);
   const [loading, setLoading] = useState(true);
   const [exporting, setExporting] = useState(false);
   const [error, setError] = useState<string | null>(null);
@@ -945,7 +946,7 @@ export default function TicketListPage() {
                         </div>
 
                         <p className="mt-2 text-sm leading-6 text-slate-600">
-                          {truncate(t.description, 170)}
+                          {truncate(t.descriptionPreview, 170)}
                         </p>
 
                         <div className="mt-3 flex flex-wrap items-center gap-2">